@@ -0,0 +1,86 @@
+package com.main.carga;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 20)
+@Threads(200)
+@Fork(1)
+public class ListagemHttpBenchmark {
+
+    @Param({"http://localhost:8080"})
+    public String baseUrl;
+
+    @Param({"admin@clinica.com"})
+    public String email;
+
+    @Param({"Senha@123"})
+    public String senha;
+
+    @Param({"/api/prontuarios?pagina=0&tamanho=20", "/api/pacientes?pagina=0&tamanho=20"})
+    public String endpoint;
+
+    private HttpClient httpClient;
+    private HttpRequest listagem;
+
+    @Setup(Level.Trial)
+    public void preparar() throws IOException, InterruptedException {
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        HttpRequest login = HttpRequest.newBuilder(URI.create(baseUrl + "/api/administradores/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        objectMapper.writeValueAsString(Map.of("email", email, "senha", senha))))
+                .build();
+        HttpResponse<String> resposta = httpClient.send(login, HttpResponse.BodyHandlers.ofString());
+        if (resposta.statusCode() != 200) {
+            throw new IllegalStateException("Login falhou em " + baseUrl + " (HTTP " + resposta.statusCode() + "): " + resposta.body());
+        }
+        JsonNode corpo = objectMapper.readTree(resposta.body());
+
+        listagem = HttpRequest.newBuilder(URI.create(baseUrl + endpoint))
+                .header("Authorization", "Bearer " + corpo.get("token").asText())
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+
+    @Benchmark
+    public int listar() throws IOException, InterruptedException {
+        HttpResponse<Void> resposta = httpClient.send(listagem, HttpResponse.BodyHandlers.discarding());
+        if (resposta.statusCode() != 200) {
+            throw new IllegalStateException("HTTP " + resposta.statusCode() + " em " + endpoint);
+        }
+        return resposta.statusCode();
+    }
+}
@@ -0,0 +1,83 @@
+package com.main.domain.repository;
+
+import com.main.config.BuscaTextoSchema;
+import com.main.domain.projection.ProntuarioSummary;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProntuarioRepositoryImplBenchmark {
+
+    private LocalContainerEntityManagerFactoryBean fabrica;
+    private EntityManager entityManager;
+    private ProntuarioRepositoryImpl repositorio;
+    private Pageable pagina;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+
+        fabrica = new LocalContainerEntityManagerFactoryBean();
+        fabrica.setDataSource(dataSource);
+        fabrica.setPackagesToScan("com.main.domain.entity");
+        fabrica.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        fabrica.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "create-drop"));
+        fabrica.afterPropertiesSet();
+
+        entityManager = fabrica.getObject().createEntityManager();
+        repositorio = new ProntuarioRepositoryImpl();
+        ReflectionTestUtils.setField(repositorio, "entityManager", entityManager);
+        ReflectionTestUtils.setField(repositorio, "buscaTextoSchema", new BuscaTextoSchema(null, false));
+        pagina = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "updatedAt"));
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        entityManager.close();
+        fabrica.destroy();
+    }
+
+    @Benchmark
+    public Page<ProntuarioSummary> paginaSemFiltro() {
+        return repositorio.buscarResumos(null, null, pagina);
+    }
+
+    @Benchmark
+    public Page<ProntuarioSummary> paginaComTermo() {
+        return repositorio.buscarResumos("maria", null, pagina);
+    }
+
+    @Benchmark
+    public Slice<ProntuarioSummary> sliceComTermoCpf() {
+        return repositorio.buscarResumosSlice("123.456", null, pagina);
+    }
+}
@@ -0,0 +1,161 @@
+package com.main.domain.service;
+
+import com.main.api.model.AlergiaDTO;
+import com.main.api.model.ComorbidadeDTO;
+import com.main.api.model.MedicamentoContinuoDTO;
+import com.main.api.model.PacienteCreateDTO;
+import com.main.api.model.PacienteDTO;
+import com.main.config.BuscaTextoSchema;
+import com.main.config.ModelMapperConfig;
+import com.main.domain.repository.PacienteRepository;
+import com.main.mapper.PacienteMapper;
+import com.main.util.ContagemTotalCache;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.support.PropertySourcesPlaceholderConfigurer;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PacienteServiceBenchmark {
+
+    private static final int ITENS_POR_COLECAO = 10;
+
+    @Param({"0", "50"})
+    public String batchSize;
+
+    private AnnotationConfigApplicationContext contexto;
+    private PacienteService pacienteService;
+    private long sequencia;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        contexto = new AnnotationConfigApplicationContext();
+        contexto.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark",
+                Map.of("benchmark.batch-size", batchSize, "app.busca.fulltext.habilitado", "false")));
+        contexto.register(ContextoPersistencia.class);
+        contexto.refresh();
+        pacienteService = contexto.getBean(PacienteService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public PacienteDTO criarPaciente() {
+        return pacienteService.criarPaciente(novoPaciente(++sequencia));
+    }
+
+    private static PacienteCreateDTO novoPaciente(long n) {
+        PacienteCreateDTO dto = new PacienteCreateDTO();
+        dto.setNome("Paciente Benchmark " + n);
+        dto.setDataNascimento(LocalDate.of(1980, 1, 1).plusDays(n % 10_000));
+        dto.setCpf(String.format("%011d", n));
+        dto.setGenero("NAO_INFORMADO");
+        dto.setEmail("paciente" + n + "@benchmark.com");
+        dto.setTelefone("(11) 99999-0000");
+        List<AlergiaDTO> alergias = new ArrayList<>();
+        List<ComorbidadeDTO> comorbidades = new ArrayList<>();
+        List<MedicamentoContinuoDTO> medicamentos = new ArrayList<>();
+        for (int i = 0; i < ITENS_POR_COLECAO; i++) {
+            AlergiaDTO alergia = new AlergiaDTO();
+            alergia.setDescricao("Alergia " + i);
+            alergias.add(alergia);
+            ComorbidadeDTO comorbidade = new ComorbidadeDTO();
+            comorbidade.setDescricao("Comorbidade " + i);
+            comorbidades.add(comorbidade);
+            MedicamentoContinuoDTO medicamento = new MedicamentoContinuoDTO();
+            medicamento.setDescricao("Medicamento " + i);
+            medicamentos.add(medicamento);
+        }
+        dto.setAlergias(alergias);
+        dto.setComorbidades(comorbidades);
+        dto.setMedicamentosContinuos(medicamentos);
+        return dto;
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    @EnableJpaRepositories(basePackageClasses = PacienteRepository.class)
+    @Import({ModelMapperConfig.class, PacienteMapper.class, ContagemTotalCache.class,
+            PacienteNomeIndice.class, PacienteService.class, BuscaTextoSchema.class})
+    static class ContextoPersistencia {
+
+        @Bean
+        static PropertySourcesPlaceholderConfigurer propertySourcesPlaceholderConfigurer() {
+            return new PropertySourcesPlaceholderConfigurer();
+        }
+
+        @Bean
+        DataSource dataSource() {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setJdbcUrl("jdbc:h2:mem:criacao;MODE=MySQL;DB_CLOSE_DELAY=-1");
+            dataSource.setUsername("sa");
+            dataSource.setPassword("");
+            return dataSource;
+        }
+
+        @Bean
+        JdbcTemplate jdbcTemplate(DataSource dataSource) {
+            return new JdbcTemplate(dataSource);
+        }
+
+        @Bean
+        LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource,
+                                                                   @Value("${benchmark.batch-size}") String batchSize) {
+            LocalContainerEntityManagerFactoryBean fabrica = new LocalContainerEntityManagerFactoryBean();
+            fabrica.setDataSource(dataSource);
+            fabrica.setPackagesToScan("com.main.domain.entity");
+            fabrica.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            fabrica.setJpaPropertyMap(Map.of(
+                    "hibernate.hbm2ddl.auto", "create-drop",
+                    "hibernate.jdbc.batch_size", batchSize,
+                    "hibernate.order_inserts", "true",
+                    "hibernate.order_updates", "true"));
+            return fabrica;
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new JpaTransactionManager(entityManagerFactory);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.main.mapper;
+
+import com.main.config.ModelMapperConfig;
+import com.main.domain.entity.AdministradorEntity;
+import com.main.domain.entity.AlergiaEntity;
+import com.main.domain.entity.ComorbidadeEntity;
+import com.main.domain.entity.ConsultaRegistroEntity;
+import com.main.domain.entity.ContatoEntity;
+import com.main.domain.entity.EncaminhamentoRegistroEntity;
+import com.main.domain.entity.EnderecoEntity;
+import com.main.domain.entity.ExameRegistroEntity;
+import com.main.domain.entity.MedicamentoContinuoEntity;
+import com.main.domain.entity.MedicoEntity;
+import com.main.domain.entity.PacienteEntity;
+import com.main.domain.entity.ProcedimentoRegistroEntity;
+import com.main.domain.entity.ProntuarioEntity;
+import com.main.domain.entity.SinaisVitaisEntity;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class DadosSinteticos {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 8, 0);
+
+    private DadosSinteticos() {
+    }
+
+    public static AnnotationConfigApplicationContext contextoMapeadores() {
+        return new AnnotationConfigApplicationContext(
+                ModelMapperConfig.class,
+                PacienteMapper.class, MedicoMapper.class, AdministradorMapper.class,
+                SinaisVitaisMapper.class, ConsultaMapper.class, ExameMapper.class,
+                ProcedimentoMapper.class, EncaminhamentoMapper.class, ProntuarioMapper.class);
+    }
+
+    public static MedicoEntity medico(long id) {
+        MedicoEntity medico = new MedicoEntity();
+        medico.setId(id);
+        medico.setNomeCompleto("Médico Sintético " + id);
+        medico.setCrm("CRM" + (100000 + id));
+        medico.setEspecialidade(id % 2 == 0 ? "Cardiologia" : "Clínica Geral");
+        medico.setResumoEspecialidade("Atendimento ambulatorial");
+        medico.setRqe("RQE" + id);
+        medico.setCreatedAt(BASE);
+        medico.setUpdatedAt(BASE);
+        return medico;
+    }
+
+    public static AdministradorEntity administrador() {
+        AdministradorEntity admin = new AdministradorEntity();
+        admin.setId(1L);
+        admin.setNome("Administrador");
+        admin.setEmail("admin@clinica.com");
+        return admin;
+    }
+
+    public static PacienteEntity paciente(long id, int itensPorColecao) {
+        PacienteEntity paciente = new PacienteEntity();
+        paciente.setId(id);
+        paciente.setNome("Paciente Sintético " + id);
+        paciente.setDataNascimento(LocalDate.of(1980, 1, 1).plusDays(id));
+        paciente.setCpf(String.format("%011d", id));
+        paciente.setRg("12345678");
+        paciente.setGenero(PacienteEntity.Genero.FEMININO);
+        paciente.setRacaCor(PacienteEntity.RacaCor.PARDA);
+        paciente.setTipoSanguineo(PacienteEntity.TipoSanguineo.O_POSITIVO);
+        paciente.setNomeMae("Mãe " + id);
+        paciente.setCartaoSus(String.format("%015d", id));
+        paciente.setNacionalidade("Brasileira");
+        paciente.setOcupacao("Professora");
+        paciente.setCreatedAt(BASE);
+        paciente.setUpdatedAt(BASE);
+
+        EnderecoEntity endereco = new EnderecoEntity();
+        endereco.setLogradouro("Rua das Flores");
+        endereco.setNumero(String.valueOf(id));
+        endereco.setBairro("Centro");
+        endereco.setCidade("Belo Horizonte");
+        endereco.setEstado("MG");
+        endereco.setCep("30110000");
+        paciente.setEndereco(endereco);
+
+        ContatoEntity contato = new ContatoEntity();
+        contato.setTelefone("31999990000");
+        contato.setEmail("paciente" + id + "@exemplo.com");
+        paciente.setContato(contato);
+
+        for (int i = 0; i < itensPorColecao; i++) {
+            AlergiaEntity alergia = new AlergiaEntity();
+            alergia.setId(id * 100 + i);
+            alergia.setDescricao("Alergia " + i);
+            alergia.setPaciente(paciente);
+            paciente.getAlergias().add(alergia);
+
+            ComorbidadeEntity comorbidade = new ComorbidadeEntity();
+            comorbidade.setId(id * 100 + i);
+            comorbidade.setDescricao("Comorbidade " + i);
+            comorbidade.setPaciente(paciente);
+            paciente.getComorbidades().add(comorbidade);
+
+            MedicamentoContinuoEntity medicamento = new MedicamentoContinuoEntity();
+            medicamento.setId(id * 100 + i);
+            medicamento.setDescricao("Medicamento " + i);
+            medicamento.setPaciente(paciente);
+            paciente.getMedicamentosContinuos().add(medicamento);
+        }
+        return paciente;
+    }
+
+    public static List<PacienteEntity> pacientes(int quantidade) {
+        List<PacienteEntity> pacientes = new ArrayList<>(quantidade);
+        for (int i = 1; i <= quantidade; i++) {
+            pacientes.add(paciente(i, 2));
+        }
+        return pacientes;
+    }
+
+    public static ProntuarioEntity prontuario(int registros) {
+        ProntuarioEntity prontuario = new ProntuarioEntity();
+        prontuario.setId(1L);
+        prontuario.setNumeroProntuario("00000000-0000-0000-0000-000000000001");
+        prontuario.setPaciente(paciente(1L, 3));
+        prontuario.setMedicoResponsavel(medico(1L));
+        prontuario.setAdministradorCriador(administrador());
+        prontuario.setCreatedAt(BASE);
+        prontuario.setUpdatedAt(BASE);
+
+        MedicoEntity[] medicos = { medico(1L), medico(2L), medico(3L), medico(4L) };
+        for (int i = 0; i < registros; i++) {
+            LocalDateTime data = BASE.plusHours(i);
+            MedicoEntity medico = medicos[i % medicos.length];
+            switch (i % 4) {
+                case 0:
+                    prontuario.getConsultas().add(consulta(prontuario, i, data, medico));
+                    break;
+                case 1:
+                    ExameRegistroEntity exame = new ExameRegistroEntity();
+                    exame.setId((long) i);
+                    exame.setProntuario(prontuario);
+                    exame.setNome("Hemograma " + i);
+                    exame.setResultado("Dentro da normalidade");
+                    exame.setObservacoes("Jejum de 8 horas");
+                    exame.setMedicoResponsavelExame(medico);
+                    exame.setDataExame(data);
+                    exame.setCreatedAt(data);
+                    exame.setUpdatedAt(data);
+                    prontuario.getExamesRegistrados().add(exame);
+                    break;
+                case 2:
+                    ProcedimentoRegistroEntity procedimento = new ProcedimentoRegistroEntity();
+                    procedimento.setId((long) i);
+                    procedimento.setProntuario(prontuario);
+                    procedimento.setDescricaoProcedimento("Curativo " + i);
+                    procedimento.setRelatorioProcedimento("Sem intercorrências");
+                    procedimento.setMedicoExecutor(medico);
+                    procedimento.setDataProcedimento(data);
+                    procedimento.setCreatedAt(data);
+                    procedimento.setUpdatedAt(data);
+                    prontuario.getProcedimentosRegistrados().add(procedimento);
+                    break;
+                default:
+                    EncaminhamentoRegistroEntity encaminhamento = new EncaminhamentoRegistroEntity();
+                    encaminhamento.setId((long) i);
+                    encaminhamento.setProntuario(prontuario);
+                    encaminhamento.setEspecialidadeDestino("Cardiologia");
+                    encaminhamento.setMotivoEncaminhamento("Avaliação " + i);
+                    encaminhamento.setObservacoes("Prioridade eletiva");
+                    encaminhamento.setMedicoSolicitante(medico);
+                    encaminhamento.setDataEncaminhamento(data);
+                    encaminhamento.setCreatedAt(data);
+                    encaminhamento.setUpdatedAt(data);
+                    prontuario.getEncaminhamentosRegistrados().add(encaminhamento);
+            }
+        }
+        return prontuario;
+    }
+
+    public static List<ConsultaRegistroEntity> consultas(int quantidade) {
+        ProntuarioEntity prontuario = new ProntuarioEntity();
+        prontuario.setId(1L);
+        MedicoEntity medico = medico(1L);
+        List<ConsultaRegistroEntity> consultas = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            consultas.add(consulta(prontuario, i, BASE.plusHours(i), medico));
+        }
+        return consultas;
+    }
+
+    private static ConsultaRegistroEntity consulta(ProntuarioEntity prontuario, int i, LocalDateTime data, MedicoEntity medico) {
+        ConsultaRegistroEntity consulta = new ConsultaRegistroEntity();
+        consulta.setId((long) i);
+        consulta.setProntuario(prontuario);
+        consulta.setMotivoConsulta("Retorno " + i);
+        consulta.setQueixasPrincipais("Cefaleia");
+        consulta.setExameFisico("Sem alterações");
+        consulta.setHipoteseDiagnostica("Enxaqueca");
+        consulta.setCondutaPlanoTerapeutico("Analgésico");
+        consulta.setDetalhesConsulta("Paciente orientada");
+        consulta.setObservacoesConsulta("Retorno em 30 dias");
+        consulta.setResponsavelMedico(medico);
+        consulta.setDataConsulta(data);
+        consulta.setCreatedAt(data);
+        consulta.setUpdatedAt(data);
+
+        SinaisVitaisEntity sinais = new SinaisVitaisEntity();
+        sinais.setPressaoArterial("120/80");
+        sinais.setTemperatura("36.5");
+        sinais.setFrequenciaCardiaca("72");
+        sinais.setSaturacao("98");
+        sinais.setHgt("95");
+        consulta.setSinaisVitais(sinais);
+        return consulta;
+    }
+}
@@ -0,0 +1,98 @@
+package com.main.mapper;
+
+import com.main.api.model.ConsultaDTO;
+import com.main.api.model.PacienteDTO;
+import com.main.domain.entity.ConsultaRegistroEntity;
+import com.main.domain.entity.PacienteEntity;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.PropertyMap;
+import org.modelmapper.convention.MatchingStrategies;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapeamentoListagemBenchmark {
+
+    private AnnotationConfigApplicationContext contexto;
+    private PacienteMapper pacienteMapper;
+    private ConsultaMapper consultaMapper;
+    private ModelMapper modelMapperReflexivo;
+    private List<PacienteEntity> pacientes;
+    private List<ConsultaRegistroEntity> consultas;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        contexto = DadosSinteticos.contextoMapeadores();
+        pacienteMapper = contexto.getBean(PacienteMapper.class);
+        consultaMapper = contexto.getBean(ConsultaMapper.class);
+        pacientes = DadosSinteticos.pacientes(100);
+        consultas = DadosSinteticos.consultas(500);
+
+        modelMapperReflexivo = new ModelMapper();
+        modelMapperReflexivo.getConfiguration()
+                .setMatchingStrategy(MatchingStrategies.STANDARD)
+                .setFieldMatchingEnabled(true)
+                .setSkipNullEnabled(true)
+                .setAmbiguityIgnored(true);
+        modelMapperReflexivo.addMappings(new PropertyMap<PacienteEntity, PacienteDTO>() {
+            @Override
+            protected void configure() {
+                map().setTelefone(source.getContato().getTelefone());
+                map().setEmail(source.getContato().getEmail());
+            }
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public void listagem100PacientesManual(Blackhole bh) {
+        for (PacienteEntity paciente : pacientes) {
+            bh.consume(pacienteMapper.toDTO(paciente));
+        }
+    }
+
+    @Benchmark
+    public void listagem100PacientesModelMapper(Blackhole bh) {
+        for (PacienteEntity paciente : pacientes) {
+            bh.consume(modelMapperReflexivo.map(paciente, PacienteDTO.class));
+        }
+    }
+
+    @Benchmark
+    public void prontuario500ConsultasManual(Blackhole bh) {
+        for (ConsultaRegistroEntity consulta : consultas) {
+            bh.consume(consultaMapper.toDTO(consulta));
+        }
+    }
+
+    @Benchmark
+    public void prontuario500ConsultasModelMapper(Blackhole bh) {
+        for (ConsultaRegistroEntity consulta : consultas) {
+            bh.consume(modelMapperReflexivo.map(consulta, ConsultaDTO.class));
+        }
+    }
+}
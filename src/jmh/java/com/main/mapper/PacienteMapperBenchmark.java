@@ -0,0 +1,93 @@
+package com.main.mapper;
+
+import com.main.api.model.AlergiaDTO;
+import com.main.api.model.ComorbidadeDTO;
+import com.main.api.model.MedicamentoContinuoDTO;
+import com.main.api.model.PacienteUpdateDTO;
+import com.main.domain.entity.PacienteEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PacienteMapperBenchmark {
+
+    @Param({"5", "50"})
+    public int itensPorColecao;
+
+    private AnnotationConfigApplicationContext contexto;
+    private PacienteMapper pacienteMapper;
+    private PacienteUpdateDTO atualizacao;
+    private PacienteEntity paciente;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        contexto = DadosSinteticos.contextoMapeadores();
+        pacienteMapper = contexto.getBean(PacienteMapper.class);
+
+        atualizacao = new PacienteUpdateDTO();
+        atualizacao.setNome("Paciente Atualizada");
+        atualizacao.setTelefone("31988887777");
+        List<AlergiaDTO> alergias = new ArrayList<>();
+        List<ComorbidadeDTO> comorbidades = new ArrayList<>();
+        List<MedicamentoContinuoDTO> medicamentos = new ArrayList<>();
+        for (int i = 0; i < itensPorColecao; i++) {
+            boolean mantido = i % 2 == 0;
+            Long id = mantido ? 100L + i : null;
+
+            AlergiaDTO alergia = new AlergiaDTO();
+            alergia.setId(id);
+            alergia.setDescricao("Alergia revisada " + i);
+            alergias.add(alergia);
+
+            ComorbidadeDTO comorbidade = new ComorbidadeDTO();
+            comorbidade.setId(id);
+            comorbidade.setDescricao("Comorbidade revisada " + i);
+            comorbidades.add(comorbidade);
+
+            MedicamentoContinuoDTO medicamento = new MedicamentoContinuoDTO();
+            medicamento.setId(id);
+            medicamento.setDescricao("Medicamento revisado " + i);
+            medicamentos.add(medicamento);
+        }
+        atualizacao.setAlergias(alergias);
+        atualizacao.setComorbidades(comorbidades);
+        atualizacao.setMedicamentosContinuos(medicamentos);
+    }
+
+    @Setup(Level.Invocation)
+    public void novoPaciente() {
+        paciente = DadosSinteticos.paciente(1L, itensPorColecao);
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public PacienteEntity updateEntityFromDTO() {
+        pacienteMapper.updateEntityFromDTO(atualizacao, paciente);
+        return paciente;
+    }
+}
@@ -0,0 +1,53 @@
+package com.main.mapper;
+
+import com.main.api.model.ProntuarioDTO;
+import com.main.domain.entity.ProntuarioEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProntuarioMapperBenchmark {
+
+    @Param({"10", "100", "500"})
+    public int registros;
+
+    private AnnotationConfigApplicationContext contexto;
+    private ProntuarioMapper prontuarioMapper;
+    private ProntuarioEntity prontuario;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        contexto = DadosSinteticos.contextoMapeadores();
+        prontuarioMapper = contexto.getBean(ProntuarioMapper.class);
+        prontuario = DadosSinteticos.prontuario(registros);
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public ProntuarioDTO toDetailedDTO() {
+        return prontuarioMapper.toDetailedDTO(prontuario);
+    }
+}
@@ -0,0 +1,69 @@
+package com.main.util;
+
+import com.main.domain.entity.AdministradorEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private JwtUtil jwtUtilSemCache;
+    private AdministradorEntity admin;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        jwtUtil = criar(10_000);
+        jwtUtilSemCache = criar(0);
+        admin = new AdministradorEntity("Administrador", "admin@clinica.com", null, null);
+        admin.setId(1L);
+        token = jwtUtil.generateToken(admin);
+        jwtUtil.validarToken(token);
+    }
+
+    private static JwtUtil criar(long tamanhoMaximoCache) {
+        JwtUtil util = new JwtUtil();
+        byte[] chave = new byte[64];
+        for (int i = 0; i < chave.length; i++) {
+            chave[i] = (byte) (i * 31 + 7);
+        }
+        ReflectionTestUtils.setField(util, "secretBase64", Base64.getEncoder().encodeToString(chave));
+        ReflectionTestUtils.setField(util, "tamanhoMaximoCache", tamanhoMaximoCache);
+        util.init();
+        return util;
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(admin);
+    }
+
+    @Benchmark
+    public AdministradorPrincipal validarToken() {
+        return jwtUtil.validarToken(token);
+    }
+
+    @Benchmark
+    public AdministradorPrincipal validarTokenSemCache() {
+        return jwtUtilSemCache.validarToken(token);
+    }
+}
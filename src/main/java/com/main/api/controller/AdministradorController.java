@@ -3,12 +3,13 @@ package com.main.api.controller;
 import com.main.api.model.AdministradorLoginDTO;
 import com.main.api.model.AdministradorRegistroDTO;
 import com.main.api.model.RedefinirSenhaDTO;
+import com.main.api.model.RefreshTokenRequestDTO;
 import com.main.api.model.VerificarPalavraChaveDTO;
 import com.main.api.model.VerifiedProfileUpdateRequestDTO;
 import com.main.api.model.AdministradorDadosDTO;
 import com.main.domain.service.AdministradorService;
 import com.main.mapper.AdministradorMapper;
-import com.main.domain.entity.AdministradorEntity;
+import com.main.util.AdministradorPrincipal;
 import com.main.util.ApiResponseUtil;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -38,6 +39,12 @@ public class AdministradorController {
         return ResponseEntity.status(HttpStatus.OK).body(loginData);
     }
 
+    @PostMapping("/token/refresh")
+    public ResponseEntity<?> refreshToken(@Valid @RequestBody RefreshTokenRequestDTO refreshDTO) {
+        Map<String, Object> tokenData = administradorService.refreshToken(refreshDTO);
+        return ResponseEntity.status(HttpStatus.OK).body(tokenData);
+    }
+
     @PostMapping("/registrar")
     public ResponseEntity<?> registrar(@Valid @RequestBody AdministradorRegistroDTO registroDTO) {
         AdministradorDadosDTO adminDTO = administradorService.register(registroDTO);
@@ -57,7 +64,7 @@ public class AdministradorController {
     }
 
     @GetMapping("/me")
-    public ResponseEntity<?> getCurrentAdmin(@AuthenticationPrincipal AdministradorEntity admin) {
+    public ResponseEntity<?> getCurrentAdmin(@AuthenticationPrincipal AdministradorPrincipal admin) {
         if (admin == null) {
             Map<String, Object> body = new HashMap<>();
             body.put("mensagem", "Nenhum administrador autenticado encontrado.");
@@ -74,13 +81,10 @@ public class AdministradorController {
 
     @PutMapping("/profile/verified-update")
     public ResponseEntity<?> updateVerifiedProfileDetails(
-            @AuthenticationPrincipal AdministradorEntity currentAdmin,
+            @AuthenticationPrincipal AdministradorPrincipal currentAdmin,
             @Valid @RequestBody VerifiedProfileUpdateRequestDTO dto) {
-        AdministradorDadosDTO updatedAdminDTO = administradorService.updateVerifiedProfileDetails(currentAdmin.getEmail(), dto);
-
-        Map<String, Object> response = new HashMap<>();
+        Map<String, Object> response = administradorService.updateVerifiedProfileDetails(currentAdmin.getId(), dto);
         response.put("mensagem", "Dados atualizados com sucesso.");
-        response.put("adminData", updatedAdminDTO);
         return ResponseEntity.ok(response);
     }
 }
\ No newline at end of file
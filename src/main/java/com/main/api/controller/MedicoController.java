@@ -3,6 +3,7 @@ package com.main.api.controller;
 import com.main.api.model.MedicoCreateDTO;
 import com.main.api.model.MedicoDTO;
 import com.main.api.model.MedicoUpdateDTO;
+import com.main.api.model.ModoPaginacao;
 import com.main.domain.service.MedicoService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -28,14 +29,16 @@ public class MedicoController {
     }
 
     @GetMapping
-    public ResponseEntity<Page<MedicoDTO>> listarMedicos(
+    public ResponseEntity<?> listarMedicos(
             @RequestParam(defaultValue = "0") int pagina,
             @RequestParam(defaultValue = "10") int tamanho,
             @RequestParam(required = false) String nome,
             @RequestParam(required = false) String crm,
             @RequestParam(required = false) String especialidade,
             @RequestParam(required = false) String status,
-            @RequestParam(defaultValue = "nomeCompleto,asc") String[] sort) {
+            @RequestParam(defaultValue = "nomeCompleto,asc") String[] sort,
+            @RequestParam(required = false) String modo,
+            @RequestParam(required = false) String cursor) {
 
         String sortField = sort.length > 0 ? sort[0] : "nomeCompleto";
         String sortDirection = sort.length > 1 ? sort[1] : "asc";
@@ -44,6 +47,16 @@ public class MedicoController {
         Sort sortBy = Sort.by(direction, sortField);
         Pageable pageable = PageRequest.of(pagina, tamanho, sortBy);
 
+        ModoPaginacao modoPaginacao = ModoPaginacao.de(modo);
+        switch (modoPaginacao) {
+            case CURSOR:
+                return ResponseEntity.ok(medicoService.buscarMedicosCursor(nome, crm, especialidade, status, sortField, direction, cursor, tamanho));
+            case SLICE:
+                return ResponseEntity.ok(medicoService.buscarMedicosSlice(nome, crm, especialidade, status, pageable));
+            default:
+                break;
+        }
+
         Page<MedicoDTO> medicosPage;
 
         if (nome != null && !nome.isEmpty()) {
@@ -1,19 +1,24 @@
 package com.main.api.controller;
 
+import com.main.api.model.ImportacaoPacientesDTO;
+import com.main.api.model.ModoPaginacao;
 import com.main.api.model.PacienteCreateDTO;
 import com.main.api.model.PacienteDTO;
 import com.main.api.model.PacienteUpdateDTO;
+import com.main.domain.service.PacienteImportacaoService;
 import com.main.domain.service.PacienteService;
 import com.main.util.ApiResponseUtil;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import java.io.InputStream;
+import java.net.URI;
 import java.util.Map;
 
 @RestController
@@ -23,6 +28,9 @@ public class PacienteController {
     @Autowired
     private PacienteService pacienteService;
 
+    @Autowired
+    private PacienteImportacaoService pacienteImportacaoService;
+
     @Autowired
     private ApiResponseUtil apiResponseUtil;
 
@@ -32,13 +40,29 @@ public class PacienteController {
         return apiResponseUtil.createSuccessResponse(HttpStatus.CREATED, "Paciente criado com sucesso.", pacienteCriado);
     }
 
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson", "application/ndjson"})
+    public ResponseEntity<?> importarPacientes(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                               InputStream corpo) {
+        ImportacaoPacientesDTO importacao = pacienteImportacaoService.iniciar(corpo, contentType);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/pacientes/import/" + importacao.getId()))
+                .body(importacao);
+    }
+
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<?> acompanharImportacao(@PathVariable String jobId) {
+        return ResponseEntity.ok(pacienteImportacaoService.buscar(jobId));
+    }
+
     @GetMapping
-    public ResponseEntity<Page<PacienteDTO>> listarPacientes(
+    public ResponseEntity<?> listarPacientes(
             @RequestParam(defaultValue = "0") int pagina,
             @RequestParam(defaultValue = "10") int tamanho,
             @RequestParam(required = false) String nome,
             @RequestParam(required = false) String cpf,
-            @RequestParam(defaultValue = "nome,asc") String[] sort) {
+            @RequestParam(defaultValue = "nome,asc") String[] sort,
+            @RequestParam(required = false) String modo,
+            @RequestParam(required = false) String cursor) {
 
         String sortField = sort.length > 0 ? sort[0] : "nome";
         String sortDirection = sort.length > 1 ? sort[1].toLowerCase() : "asc";
@@ -47,8 +71,12 @@ public class PacienteController {
         Sort sortBy = Sort.by(direction, sortField);
         Pageable pageable = PageRequest.of(pagina, tamanho, sortBy);
 
-        Page<PacienteDTO> pacientesPage = pacienteService.buscarTodosPacientes(pageable, nome, cpf);
-        return ResponseEntity.ok(pacientesPage);
+        ModoPaginacao modoPaginacao = ModoPaginacao.de(modo);
+        return switch (modoPaginacao) {
+            case CURSOR -> ResponseEntity.ok(pacienteService.buscarPacientesCursor(nome, cpf, sortField, direction, cursor, tamanho));
+            case SLICE -> ResponseEntity.ok(pacienteService.buscarTodosPacientesSlice(pageable, nome, cpf));
+            case PAGINA -> ResponseEntity.ok(pacienteService.buscarTodosPacientes(pageable, nome, cpf));
+        };
     }
 
     @GetMapping("/{id}")
@@ -1,14 +1,16 @@
 package com.main.api.controller;
 
 import com.main.api.model.*;
-import com.main.domain.entity.AdministradorEntity;
+import com.main.domain.service.ProntuarioLoteService;
 import com.main.domain.service.ProntuarioService;
+import com.main.domain.service.ProntuarioTimelineService;
+import com.main.util.AdministradorPrincipal;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -23,6 +25,12 @@ public class ProntuarioController {
     @Autowired
     private ProntuarioService prontuarioService;
 
+    @Autowired
+    private ProntuarioTimelineService prontuarioTimelineService;
+
+    @Autowired
+    private ProntuarioLoteService prontuarioLoteService;
+
     private ResponseEntity<Map<String, Object>> createErrorResponse(HttpStatus status, String message) {
         Map<String, Object> body = new HashMap<>();
         body.put("mensagem", message);
@@ -31,12 +39,14 @@ public class ProntuarioController {
     }
 
     @GetMapping
-    public ResponseEntity<Page<ProntuarioDTO>> buscarProntuariosPaginado(
+    public ResponseEntity<?> buscarProntuariosPaginado(
             @RequestParam(defaultValue = "0") int pagina,
             @RequestParam(defaultValue = "10") int tamanho,
             @RequestParam(required = false) String termo,
             @RequestParam(required = false) String numeroProntuario,
-            @RequestParam(defaultValue = "updatedAt,desc") String[] sort) {
+            @RequestParam(defaultValue = "updatedAt,desc") String[] sort,
+            @RequestParam(required = false) String modo,
+            @RequestParam(required = false) String cursor) {
 
         String sortField = sort[0];
         String sortDirection = sort.length > 1 ? sort[1] : "desc";
@@ -44,14 +54,58 @@ public class ProntuarioController {
         Sort sortBy = Sort.by(direction, sortField);
         Pageable pageable = PageRequest.of(pagina, tamanho, sortBy);
 
-        Page<ProntuarioDTO> prontuariosPageDTO = prontuarioService.buscarTodosProntuarios(pageable, termo, numeroProntuario);
-        return ResponseEntity.ok(prontuariosPageDTO);
+        ModoPaginacao modoPaginacao = ModoPaginacao.de(modo);
+        return switch (modoPaginacao) {
+            case CURSOR -> ResponseEntity.ok(prontuarioService.buscarProntuariosCursor(termo, numeroProntuario, sortField, direction, cursor, tamanho));
+            case SLICE -> ResponseEntity.ok(prontuarioService.buscarTodosProntuariosSlice(pageable, termo, numeroProntuario));
+            case PAGINA -> ResponseEntity.ok(prontuarioService.buscarTodosProntuarios(pageable, termo, numeroProntuario));
+        };
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<ProntuarioDTO> buscarProntuarioPorId(@PathVariable Long id) {
         ProntuarioDTO prontuarioDTO = prontuarioService.buscarProntuarioPorIdDetalhado(id);
-        return ResponseEntity.ok(prontuarioDTO);
+        return ResponseEntity.ok().eTag(VersaoEtag.de(prontuarioDTO.getVersao())).body(prontuarioDTO);
+    }
+
+    @GetMapping("/{id}/consultas")
+    public ResponseEntity<CursorPageDTO<ConsultaDTO>> listarConsultas(
+            @PathVariable Long id,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(prontuarioService.listarConsultas(id, after, limit));
+    }
+
+    @GetMapping("/{id}/exames")
+    public ResponseEntity<CursorPageDTO<ExameRegistroDTO>> listarExames(
+            @PathVariable Long id,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(prontuarioService.listarExames(id, after, limit));
+    }
+
+    @GetMapping("/{id}/procedimentos")
+    public ResponseEntity<CursorPageDTO<ProcedimentoRegistroDTO>> listarProcedimentos(
+            @PathVariable Long id,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(prontuarioService.listarProcedimentos(id, after, limit));
+    }
+
+    @GetMapping("/{id}/encaminhamentos")
+    public ResponseEntity<CursorPageDTO<EncaminhamentoRegistroDTO>> listarEncaminhamentos(
+            @PathVariable Long id,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(prontuarioService.listarEncaminhamentos(id, after, limit));
+    }
+
+    @GetMapping("/{id}/timeline")
+    public ResponseEntity<CursorPageDTO<HistoricoMedicoDTO>> buscarTimeline(
+            @PathVariable Long id,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(prontuarioTimelineService.buscarTimeline(id, after, limit));
     }
 
     @PostMapping("/consultas")
@@ -59,7 +113,7 @@ public class ProntuarioController {
             @RequestParam Long pacienteId,
             @RequestParam Long medicoExecutorId,
             @Valid @RequestBody CriarConsultaRequestDTO consultaDTO,
-            @AuthenticationPrincipal AdministradorEntity adminLogado) {
+            @AuthenticationPrincipal AdministradorPrincipal adminLogado) {
         if (adminLogado == null) return createErrorResponse(HttpStatus.UNAUTHORIZED, "Usuário não autenticado ou não autorizado.");
         ConsultaDTO consultaSalvaDTO = prontuarioService.adicionarConsultaERetornarDTO(pacienteId, consultaDTO, adminLogado, medicoExecutorId);
         return ResponseEntity.status(HttpStatus.CREATED).body(consultaSalvaDTO);
@@ -70,7 +124,7 @@ public class ProntuarioController {
             @RequestParam Long pacienteId,
             @RequestParam Long medicoResponsavelExameId,
             @Valid @RequestBody CriarExameRequestDTO exameDTO,
-            @AuthenticationPrincipal AdministradorEntity adminLogado) {
+            @AuthenticationPrincipal AdministradorPrincipal adminLogado) {
         if (adminLogado == null) return createErrorResponse(HttpStatus.UNAUTHORIZED, "Usuário não autenticado ou não autorizado.");
         ExameRegistroDTO exameSalvoDTO = prontuarioService.adicionarExameERetornarDTO(pacienteId, exameDTO, adminLogado, medicoResponsavelExameId);
         return ResponseEntity.status(HttpStatus.CREATED).body(exameSalvoDTO);
@@ -80,7 +134,7 @@ public class ProntuarioController {
     public ResponseEntity<?> adicionarProcedimento(
             @RequestParam Long pacienteId,
             @Valid @RequestBody CriarProcedimentoRequestDTO procedimentoDTO,
-            @AuthenticationPrincipal AdministradorEntity adminLogado) {
+            @AuthenticationPrincipal AdministradorPrincipal adminLogado) {
         if (adminLogado == null) return createErrorResponse(HttpStatus.UNAUTHORIZED, "Usuário não autenticado ou não autorizado.");
         ProcedimentoRegistroDTO procedimentoSalvoDTO = prontuarioService.adicionarProcedimentoERetornarDTO(pacienteId, procedimentoDTO, adminLogado);
         return ResponseEntity.status(HttpStatus.CREATED).body(procedimentoSalvoDTO);
@@ -90,59 +144,73 @@ public class ProntuarioController {
     public ResponseEntity<?> adicionarEncaminhamento(
             @RequestParam Long pacienteId,
             @Valid @RequestBody CriarEncaminhamentoRequestDTO encaminhamentoDTO,
-            @AuthenticationPrincipal AdministradorEntity adminLogado) {
+            @AuthenticationPrincipal AdministradorPrincipal adminLogado) {
         if (adminLogado == null) return createErrorResponse(HttpStatus.UNAUTHORIZED, "Usuário não autenticado ou não autorizado.");
         EncaminhamentoRegistroDTO encaminhamentoSalvoDTO = prontuarioService.adicionarEncaminhamentoERetornarDTO(pacienteId, encaminhamentoDTO, adminLogado);
         return ResponseEntity.status(HttpStatus.CREATED).body(encaminhamentoSalvoDTO);
     }
 
+    @PostMapping("/lote")
+    public ResponseEntity<?> adicionarRegistrosEmLote(
+            @Valid @RequestBody LoteRegistrosProntuarioDTO loteDTO,
+            @AuthenticationPrincipal AdministradorPrincipal adminLogado) {
+        if (adminLogado == null) return createErrorResponse(HttpStatus.UNAUTHORIZED, "Usuário não autenticado ou não autorizado.");
+        LoteRegistrosResultadoDTO resultado = prontuarioLoteService.adicionarRegistros(loteDTO, adminLogado);
+        return ResponseEntity.status(HttpStatus.CREATED).body(resultado);
+    }
+
     @PutMapping("/consultas/{consultaId}")
     public ResponseEntity<?> atualizarConsulta(
             @PathVariable Long consultaId,
             @Valid @RequestBody AtualizarConsultaRequestDTO consultaDTO,
-            @AuthenticationPrincipal AdministradorEntity adminLogado) {
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @AuthenticationPrincipal AdministradorPrincipal adminLogado) {
         if (adminLogado == null) return createErrorResponse(HttpStatus.UNAUTHORIZED, "Usuário não autenticado ou não autorizado.");
-        ConsultaDTO consultaAtualizadaDTO = prontuarioService.atualizarConsultaERetornarDTO(consultaId, consultaDTO, adminLogado);
-        return ResponseEntity.ok(consultaAtualizadaDTO);
+        ConsultaDTO consultaAtualizadaDTO = prontuarioService.atualizarConsultaERetornarDTO(consultaId, consultaDTO, adminLogado, VersaoEtag.parse(ifMatch));
+        return ResponseEntity.ok().eTag(VersaoEtag.de(consultaAtualizadaDTO.getVersao())).body(consultaAtualizadaDTO);
     }
 
     @PutMapping("/exames/{exameId}")
     public ResponseEntity<?> atualizarExame(
             @PathVariable Long exameId,
             @Valid @RequestBody AtualizarExameRequestDTO exameDTO,
-            @AuthenticationPrincipal AdministradorEntity adminLogado) {
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @AuthenticationPrincipal AdministradorPrincipal adminLogado) {
         if (adminLogado == null) return createErrorResponse(HttpStatus.UNAUTHORIZED, "Usuário não autenticado ou não autorizado.");
-        ExameRegistroDTO exameAtualizadoDTO = prontuarioService.atualizarExameERetornarDTO(exameId, exameDTO, adminLogado);
-        return ResponseEntity.ok(exameAtualizadoDTO);
+        ExameRegistroDTO exameAtualizadoDTO = prontuarioService.atualizarExameERetornarDTO(exameId, exameDTO, adminLogado, VersaoEtag.parse(ifMatch));
+        return ResponseEntity.ok().eTag(VersaoEtag.de(exameAtualizadoDTO.getVersao())).body(exameAtualizadoDTO);
     }
 
     @PutMapping("/procedimentos/{procedimentoId}")
     public ResponseEntity<?> atualizarProcedimento(
             @PathVariable Long procedimentoId,
             @Valid @RequestBody AtualizarProcedimentoRequestDTO procedimentoDTO,
-            @AuthenticationPrincipal AdministradorEntity adminLogado) {
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @AuthenticationPrincipal AdministradorPrincipal adminLogado) {
         if (adminLogado == null) return createErrorResponse(HttpStatus.UNAUTHORIZED, "Usuário não autenticado ou não autorizado.");
-        ProcedimentoRegistroDTO procedimentoAtualizadoDTO = prontuarioService.atualizarProcedimentoERetornarDTO(procedimentoId, procedimentoDTO, adminLogado);
-        return ResponseEntity.ok(procedimentoAtualizadoDTO);
+        ProcedimentoRegistroDTO procedimentoAtualizadoDTO = prontuarioService.atualizarProcedimentoERetornarDTO(procedimentoId, procedimentoDTO, adminLogado, VersaoEtag.parse(ifMatch));
+        return ResponseEntity.ok().eTag(VersaoEtag.de(procedimentoAtualizadoDTO.getVersao())).body(procedimentoAtualizadoDTO);
     }
 
     @PutMapping("/encaminhamentos/{encaminhamentoId}")
     public ResponseEntity<?> atualizarEncaminhamento(
             @PathVariable Long encaminhamentoId,
             @Valid @RequestBody AtualizarEncaminhamentoRequestDTO encaminhamentoDTO,
-            @AuthenticationPrincipal AdministradorEntity adminLogado) {
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @AuthenticationPrincipal AdministradorPrincipal adminLogado) {
         if (adminLogado == null) return createErrorResponse(HttpStatus.UNAUTHORIZED, "Usuário não autenticado ou não autorizado.");
-        EncaminhamentoRegistroDTO encaminhamentoAtualizadoDTO = prontuarioService.atualizarEncaminhamentoERetornarDTO(encaminhamentoId, encaminhamentoDTO, adminLogado);
-        return ResponseEntity.ok(encaminhamentoAtualizadoDTO);
+        EncaminhamentoRegistroDTO encaminhamentoAtualizadoDTO = prontuarioService.atualizarEncaminhamentoERetornarDTO(encaminhamentoId, encaminhamentoDTO, adminLogado, VersaoEtag.parse(ifMatch));
+        return ResponseEntity.ok().eTag(VersaoEtag.de(encaminhamentoAtualizadoDTO.getVersao())).body(encaminhamentoAtualizadoDTO);
     }
 
     @PutMapping("/{id}/dados-basicos")
     public ResponseEntity<?> atualizarDadosBasicosProntuario(
             @PathVariable Long id,
             @Valid @RequestBody ProntuarioUpdateDadosBasicosDTO updateDTO,
-            @AuthenticationPrincipal AdministradorEntity adminLogado) {
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @AuthenticationPrincipal AdministradorPrincipal adminLogado) {
         if (adminLogado == null) return createErrorResponse(HttpStatus.UNAUTHORIZED, "Usuário não autenticado ou não autorizado.");
-        ProntuarioDTO prontuarioAtualizadoDTO = prontuarioService.atualizarDadosBasicosProntuarioERetornarDTO(id, updateDTO.getMedicoResponsavelId());
-        return ResponseEntity.ok(prontuarioAtualizadoDTO);
+        ProntuarioDTO prontuarioAtualizadoDTO = prontuarioService.atualizarDadosBasicosProntuarioERetornarDTO(id, updateDTO.getMedicoResponsavelId(), VersaoEtag.parse(ifMatch));
+        return ResponseEntity.ok().eTag(VersaoEtag.de(prontuarioAtualizadoDTO.getVersao())).body(prontuarioAtualizadoDTO);
     }
 }
\ No newline at end of file
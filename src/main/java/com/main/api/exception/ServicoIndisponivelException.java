@@ -0,0 +1,7 @@
+package com.main.api.exception;
+
+public class ServicoIndisponivelException extends RuntimeException {
+    public ServicoIndisponivelException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.main.api.exception;
+
+public class VersaoDesatualizadaException extends RuntimeException {
+    public VersaoDesatualizadaException(String message) {
+        super(message);
+    }
+}
@@ -24,6 +24,7 @@ public class ConsultaDTO {
 
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long versao;
 
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
@@ -68,4 +69,6 @@ public class ConsultaDTO {
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
     public LocalDateTime getUpdatedAt() { return updatedAt; }
     public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+    public Long getVersao() { return versao; }
+    public void setVersao(Long versao) { this.versao = versao; }
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.main.api.model;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+public class CursorListagem {
+    private static final String SEPARADOR = "|";
+
+    private final String campo;
+    private final Sort.Direction direcao;
+    private final Long id;
+    private final String valor;
+
+    public CursorListagem(String campo, Sort.Direction direcao, Object valor, Long id) {
+        this.campo = campo;
+        this.direcao = direcao;
+        this.valor = String.valueOf(valor);
+        this.id = id;
+    }
+
+    public static CursorListagem decodificar(String token, Sort.Order ordem) {
+        if (!StringUtils.hasText(token)) {
+            return null;
+        }
+        CursorListagem cursor;
+        try {
+            String conteudo = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            String[] partes = conteudo.split("\\" + SEPARADOR, 4);
+            if (partes.length != 4) {
+                throw new IllegalArgumentException("Cursor inválido.");
+            }
+            cursor = new CursorListagem(partes[0], Sort.Direction.valueOf(partes[1]), partes[3], Long.valueOf(partes[2]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor inválido.");
+        }
+        if (!cursor.campo.equals(ordem.getProperty()) || cursor.direcao != ordem.getDirection()) {
+            throw new IllegalArgumentException("O cursor foi gerado para outra ordenação; refaça a primeira página.");
+        }
+        return cursor;
+    }
+
+    public String codificar() {
+        String conteudo = campo + SEPARADOR + direcao.name() + SEPARADOR + id + SEPARADOR + valor;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(conteudo.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String getCampo() { return campo; }
+    public Sort.Direction getDirecao() { return direcao; }
+    public Long getId() { return id; }
+    public String getValor() { return valor; }
+
+    public LocalDateTime getValorData() {
+        try {
+            return LocalDateTime.parse(valor);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Cursor inválido.");
+        }
+    }
+}
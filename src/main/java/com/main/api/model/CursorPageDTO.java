@@ -0,0 +1,26 @@
+package com.main.api.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class CursorPageDTO<T> {
+    private List<T> itens = new ArrayList<>();
+    private String proximoCursor;
+    private boolean temMais;
+
+    public CursorPageDTO() {
+    }
+
+    public CursorPageDTO(List<T> itens, String proximoCursor, boolean temMais) {
+        this.itens = itens;
+        this.proximoCursor = proximoCursor;
+        this.temMais = temMais;
+    }
+
+    public List<T> getItens() { return itens; }
+    public void setItens(List<T> itens) { this.itens = itens; }
+    public String getProximoCursor() { return proximoCursor; }
+    public void setProximoCursor(String proximoCursor) { this.proximoCursor = proximoCursor; }
+    public boolean isTemMais() { return temMais; }
+    public void setTemMais(boolean temMais) { this.temMais = temMais; }
+}
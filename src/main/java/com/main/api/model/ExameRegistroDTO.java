@@ -15,6 +15,7 @@ public class ExameRegistroDTO {
     private LocalDateTime dataExame;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long versao;
 
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
@@ -40,4 +41,6 @@ public class ExameRegistroDTO {
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
     public LocalDateTime getUpdatedAt() { return updatedAt; }
     public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+    public Long getVersao() { return versao; }
+    public void setVersao(Long versao) { this.versao = versao; }
 }
\ No newline at end of file
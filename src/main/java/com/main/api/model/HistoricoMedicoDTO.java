@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 
 public class HistoricoMedicoDTO {
     private Long id;
+    private String tipo;
     private LocalDateTime data;
     private String descricao;
     private String responsavel;
@@ -15,6 +16,8 @@ public class HistoricoMedicoDTO {
 
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
+    public String getTipo() { return tipo; }
+    public void setTipo(String tipo) { this.tipo = tipo; }
     public LocalDateTime getData() { return data; }
     public void setData(LocalDateTime data) { this.data = data; }
     public String getDescricao() { return descricao; }
@@ -0,0 +1,61 @@
+package com.main.api.model;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class ImportacaoPacientesDTO {
+
+    private String id;
+    private String status;
+    private String formato;
+    private long linhasProcessadas;
+    private long importados;
+    private long rejeitados;
+    private LocalDateTime iniciadoEm;
+    private LocalDateTime concluidoEm;
+    private String mensagem;
+    private List<ErroLinhaDTO> erros;
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+    public String getFormato() { return formato; }
+    public void setFormato(String formato) { this.formato = formato; }
+    public long getLinhasProcessadas() { return linhasProcessadas; }
+    public void setLinhasProcessadas(long linhasProcessadas) { this.linhasProcessadas = linhasProcessadas; }
+    public long getImportados() { return importados; }
+    public void setImportados(long importados) { this.importados = importados; }
+    public long getRejeitados() { return rejeitados; }
+    public void setRejeitados(long rejeitados) { this.rejeitados = rejeitados; }
+    public LocalDateTime getIniciadoEm() { return iniciadoEm; }
+    public void setIniciadoEm(LocalDateTime iniciadoEm) { this.iniciadoEm = iniciadoEm; }
+    public LocalDateTime getConcluidoEm() { return concluidoEm; }
+    public void setConcluidoEm(LocalDateTime concluidoEm) { this.concluidoEm = concluidoEm; }
+    public String getMensagem() { return mensagem; }
+    public void setMensagem(String mensagem) { this.mensagem = mensagem; }
+    public List<ErroLinhaDTO> getErros() { return erros; }
+    public void setErros(List<ErroLinhaDTO> erros) { this.erros = erros; }
+
+    public static class ErroLinhaDTO {
+        private long linha;
+        private String cpf;
+        private String mensagem;
+
+        public ErroLinhaDTO() {
+        }
+
+        public ErroLinhaDTO(long linha, String cpf, String mensagem) {
+            this.linha = linha;
+            this.cpf = cpf;
+            this.mensagem = mensagem;
+        }
+
+        public long getLinha() { return linha; }
+        public void setLinha(long linha) { this.linha = linha; }
+        public String getCpf() { return cpf; }
+        public void setCpf(String cpf) { this.cpf = cpf; }
+        public String getMensagem() { return mensagem; }
+        public void setMensagem(String mensagem) { this.mensagem = mensagem; }
+    }
+}
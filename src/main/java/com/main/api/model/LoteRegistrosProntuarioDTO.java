@@ -0,0 +1,101 @@
+package com.main.api.model;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class LoteRegistrosProntuarioDTO {
+
+    @Valid
+    private List<ConsultaLoteDTO> consultas = new ArrayList<>();
+
+    @Valid
+    private List<ExameLoteDTO> exames = new ArrayList<>();
+
+    @Valid
+    private List<ProcedimentoLoteDTO> procedimentos = new ArrayList<>();
+
+    @Valid
+    private List<EncaminhamentoLoteDTO> encaminhamentos = new ArrayList<>();
+
+    public List<ConsultaLoteDTO> getConsultas() { return consultas; }
+    public void setConsultas(List<ConsultaLoteDTO> consultas) { this.consultas = consultas != null ? consultas : new ArrayList<>(); }
+    public List<ExameLoteDTO> getExames() { return exames; }
+    public void setExames(List<ExameLoteDTO> exames) { this.exames = exames != null ? exames : new ArrayList<>(); }
+    public List<ProcedimentoLoteDTO> getProcedimentos() { return procedimentos; }
+    public void setProcedimentos(List<ProcedimentoLoteDTO> procedimentos) { this.procedimentos = procedimentos != null ? procedimentos : new ArrayList<>(); }
+    public List<EncaminhamentoLoteDTO> getEncaminhamentos() { return encaminhamentos; }
+    public void setEncaminhamentos(List<EncaminhamentoLoteDTO> encaminhamentos) { this.encaminhamentos = encaminhamentos != null ? encaminhamentos : new ArrayList<>(); }
+
+    public int totalRegistros() {
+        return consultas.size() + exames.size() + procedimentos.size() + encaminhamentos.size();
+    }
+
+    public static class ConsultaLoteDTO {
+        @NotNull(message = "ID do paciente é obrigatório")
+        private Long pacienteId;
+
+        @NotNull(message = "ID do médico executor é obrigatório")
+        private Long medicoExecutorId;
+
+        @NotNull(message = "Dados da consulta são obrigatórios")
+        @Valid
+        private CriarConsultaRequestDTO registro;
+
+        public Long getPacienteId() { return pacienteId; }
+        public void setPacienteId(Long pacienteId) { this.pacienteId = pacienteId; }
+        public Long getMedicoExecutorId() { return medicoExecutorId; }
+        public void setMedicoExecutorId(Long medicoExecutorId) { this.medicoExecutorId = medicoExecutorId; }
+        public CriarConsultaRequestDTO getRegistro() { return registro; }
+        public void setRegistro(CriarConsultaRequestDTO registro) { this.registro = registro; }
+    }
+
+    public static class ExameLoteDTO {
+        @NotNull(message = "ID do paciente é obrigatório")
+        private Long pacienteId;
+
+        @NotNull(message = "ID do médico responsável pelo exame é obrigatório")
+        private Long medicoResponsavelExameId;
+
+        @NotNull(message = "Dados do exame são obrigatórios")
+        @Valid
+        private CriarExameRequestDTO registro;
+
+        public Long getPacienteId() { return pacienteId; }
+        public void setPacienteId(Long pacienteId) { this.pacienteId = pacienteId; }
+        public Long getMedicoResponsavelExameId() { return medicoResponsavelExameId; }
+        public void setMedicoResponsavelExameId(Long medicoResponsavelExameId) { this.medicoResponsavelExameId = medicoResponsavelExameId; }
+        public CriarExameRequestDTO getRegistro() { return registro; }
+        public void setRegistro(CriarExameRequestDTO registro) { this.registro = registro; }
+    }
+
+    public static class ProcedimentoLoteDTO {
+        @NotNull(message = "ID do paciente é obrigatório")
+        private Long pacienteId;
+
+        @NotNull(message = "Dados do procedimento são obrigatórios")
+        @Valid
+        private CriarProcedimentoRequestDTO registro;
+
+        public Long getPacienteId() { return pacienteId; }
+        public void setPacienteId(Long pacienteId) { this.pacienteId = pacienteId; }
+        public CriarProcedimentoRequestDTO getRegistro() { return registro; }
+        public void setRegistro(CriarProcedimentoRequestDTO registro) { this.registro = registro; }
+    }
+
+    public static class EncaminhamentoLoteDTO {
+        @NotNull(message = "ID do paciente é obrigatório")
+        private Long pacienteId;
+
+        @NotNull(message = "Dados do encaminhamento são obrigatórios")
+        @Valid
+        private CriarEncaminhamentoRequestDTO registro;
+
+        public Long getPacienteId() { return pacienteId; }
+        public void setPacienteId(Long pacienteId) { this.pacienteId = pacienteId; }
+        public CriarEncaminhamentoRequestDTO getRegistro() { return registro; }
+        public void setRegistro(CriarEncaminhamentoRequestDTO registro) { this.registro = registro; }
+    }
+}
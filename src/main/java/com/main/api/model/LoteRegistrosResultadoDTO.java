@@ -0,0 +1,26 @@
+package com.main.api.model;
+
+import java.util.List;
+
+public class LoteRegistrosResultadoDTO {
+
+    private int prontuariosCriados;
+    private List<Long> prontuarioIds;
+    private int consultas;
+    private int exames;
+    private int procedimentos;
+    private int encaminhamentos;
+
+    public int getProntuariosCriados() { return prontuariosCriados; }
+    public void setProntuariosCriados(int prontuariosCriados) { this.prontuariosCriados = prontuariosCriados; }
+    public List<Long> getProntuarioIds() { return prontuarioIds; }
+    public void setProntuarioIds(List<Long> prontuarioIds) { this.prontuarioIds = prontuarioIds; }
+    public int getConsultas() { return consultas; }
+    public void setConsultas(int consultas) { this.consultas = consultas; }
+    public int getExames() { return exames; }
+    public void setExames(int exames) { this.exames = exames; }
+    public int getProcedimentos() { return procedimentos; }
+    public void setProcedimentos(int procedimentos) { this.procedimentos = procedimentos; }
+    public int getEncaminhamentos() { return encaminhamentos; }
+    public void setEncaminhamentos(int encaminhamentos) { this.encaminhamentos = encaminhamentos; }
+}
@@ -0,0 +1,19 @@
+package com.main.api.model;
+
+public enum ModoPaginacao {
+    PAGINA,
+    SLICE,
+    CURSOR;
+
+    public static ModoPaginacao de(String valor) {
+        if (valor == null || valor.isBlank()) {
+            return PAGINA;
+        }
+        for (ModoPaginacao modo : values()) {
+            if (modo.name().equalsIgnoreCase(valor.trim())) {
+                return modo;
+            }
+        }
+        throw new IllegalArgumentException("Parâmetro modo inválido: use 'pagina', 'slice' ou 'cursor'.");
+    }
+}
@@ -21,7 +21,7 @@ public class PacienteCreateDTO {
     private LocalDate dataNascimento;
 
     @NotBlank(message = "CPF é obrigatório")
-    @Pattern(regexp = "^\\d{11}$", message = "CPF deve conter 11 dígitos")
+    @Pattern(regexp = "^(\\d{11}|\\d{3}\\.\\d{3}\\.\\d{3}-\\d{2})$", message = "CPF deve conter 11 dígitos")
     private String cpf;
 
     @Pattern(regexp = "^[0-9]{1,9}$", message = "RG deve conter no máximo 9 dígitos (apenas números)")
@@ -22,6 +22,10 @@ public class ProntuarioDTO {
     @JsonFormat(pattern="yyyy-MM-dd'T'HH:mm:ss")
     private LocalDateTime updatedAt;
 
+    private Long versao;
+
+    private ResumoAtividadeDTO resumo;
+
     private List<ConsultaDTO> consultas;
     private List<ExameRegistroDTO> examesRegistrados;
     private List<ProcedimentoRegistroDTO> procedimentosRegistrados;
@@ -90,6 +94,14 @@ public class ProntuarioDTO {
         this.updatedAt = updatedAt;
     }
 
+    public Long getVersao() {
+        return versao;
+    }
+
+    public void setVersao(Long versao) {
+        this.versao = versao;
+    }
+
     public List<ConsultaDTO> getConsultas() {
         return consultas;
     }
@@ -122,6 +134,48 @@ public class ProntuarioDTO {
         this.encaminhamentosRegistrados = encaminhamentosRegistrados;
     }
 
+    public ResumoAtividadeDTO getResumo() {
+        return resumo;
+    }
+
+    public void setResumo(ResumoAtividadeDTO resumo) {
+        this.resumo = resumo;
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class ResumoAtividadeDTO {
+        private int totalConsultas;
+        private int totalExames;
+        private int totalProcedimentos;
+        private int totalEncaminhamentos;
+
+        @JsonFormat(pattern="yyyy-MM-dd'T'HH:mm:ss")
+        private LocalDateTime ultimaConsultaEm;
+
+        @JsonFormat(pattern="yyyy-MM-dd'T'HH:mm:ss")
+        private LocalDateTime ultimoExameEm;
+
+        private Long ultimoMedicoId;
+        private String ultimoMedicoNome;
+
+        public int getTotalConsultas() { return totalConsultas; }
+        public void setTotalConsultas(int totalConsultas) { this.totalConsultas = totalConsultas; }
+        public int getTotalExames() { return totalExames; }
+        public void setTotalExames(int totalExames) { this.totalExames = totalExames; }
+        public int getTotalProcedimentos() { return totalProcedimentos; }
+        public void setTotalProcedimentos(int totalProcedimentos) { this.totalProcedimentos = totalProcedimentos; }
+        public int getTotalEncaminhamentos() { return totalEncaminhamentos; }
+        public void setTotalEncaminhamentos(int totalEncaminhamentos) { this.totalEncaminhamentos = totalEncaminhamentos; }
+        public LocalDateTime getUltimaConsultaEm() { return ultimaConsultaEm; }
+        public void setUltimaConsultaEm(LocalDateTime ultimaConsultaEm) { this.ultimaConsultaEm = ultimaConsultaEm; }
+        public LocalDateTime getUltimoExameEm() { return ultimoExameEm; }
+        public void setUltimoExameEm(LocalDateTime ultimoExameEm) { this.ultimoExameEm = ultimoExameEm; }
+        public Long getUltimoMedicoId() { return ultimoMedicoId; }
+        public void setUltimoMedicoId(Long ultimoMedicoId) { this.ultimoMedicoId = ultimoMedicoId; }
+        public String getUltimoMedicoNome() { return ultimoMedicoNome; }
+        public void setUltimoMedicoNome(String ultimoMedicoNome) { this.ultimoMedicoNome = ultimoMedicoNome; }
+    }
+
     public static class MedicoBasicDTO {
         private Long id;
         private String nomeCompleto;
@@ -0,0 +1,12 @@
+package com.main.api.model;
+
+import jakarta.validation.constraints.NotBlank;
+
+public class RefreshTokenRequestDTO {
+
+    @NotBlank(message = "Refresh token não pode ser vazio")
+    private String refreshToken;
+
+    public String getRefreshToken() { return refreshToken; }
+    public void setRefreshToken(String refreshToken) { this.refreshToken = refreshToken; }
+}
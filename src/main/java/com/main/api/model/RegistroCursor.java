@@ -0,0 +1,41 @@
+package com.main.api.model;
+
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+public class RegistroCursor {
+    private final LocalDateTime data;
+    private final Long id;
+
+    public RegistroCursor(LocalDateTime data, Long id) {
+        this.data = data;
+        this.id = id;
+    }
+
+    public static RegistroCursor parse(String valor) {
+        if (!StringUtils.hasText(valor)) {
+            return null;
+        }
+        int separador = valor.lastIndexOf(',');
+        if (separador <= 0 || separador == valor.length() - 1) {
+            throw new IllegalArgumentException("Cursor inválido: use o formato <data>,<id>.");
+        }
+        try {
+            LocalDateTime data = LocalDateTime.parse(valor.substring(0, separador).trim());
+            Long id = Long.valueOf(valor.substring(separador + 1).trim());
+            return new RegistroCursor(data, id);
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Cursor inválido: use o formato <data>,<id>.");
+        }
+    }
+
+    public LocalDateTime getData() { return data; }
+    public Long getId() { return id; }
+
+    @Override
+    public String toString() {
+        return data + "," + id;
+    }
+}
@@ -0,0 +1,31 @@
+package com.main.api.model;
+
+import org.springframework.util.StringUtils;
+
+public final class VersaoEtag {
+
+    private VersaoEtag() {
+    }
+
+    public static Long parse(String ifMatch) {
+        if (!StringUtils.hasText(ifMatch) || "*".equals(ifMatch.trim())) {
+            return null;
+        }
+        String valor = ifMatch.trim();
+        if (valor.startsWith("W/")) {
+            valor = valor.substring(2);
+        }
+        if (valor.length() >= 2 && valor.startsWith("\"") && valor.endsWith("\"")) {
+            valor = valor.substring(1, valor.length() - 1);
+        }
+        try {
+            return Long.valueOf(valor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Cabeçalho If-Match inválido: use a ETag devolvida pela API.");
+        }
+    }
+
+    public static String de(Long versao) {
+        return versao != null ? "\"" + versao + "\"" : null;
+    }
+}
@@ -0,0 +1,74 @@
+package com.main.config;
+
+import com.main.util.BancoDadosUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class BuscaTextoSchema implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(BuscaTextoSchema.class);
+
+    static final String INDICE_FULLTEXT = "ft_prontuarios_busca_texto";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean habilitado;
+    private volatile boolean disponivel;
+
+    public BuscaTextoSchema(JdbcTemplate jdbcTemplate,
+                            @Value("${app.busca.fulltext.habilitado:true}") boolean habilitado) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.habilitado = habilitado;
+    }
+
+    public boolean isDisponivel() {
+        return disponivel;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!habilitado) {
+            logger.info("SCHEMA: Busca full-text desabilitada por configuração.");
+            return;
+        }
+        try {
+            if (!BancoDadosUtil.isMySql(jdbcTemplate.getDataSource())) {
+                logger.info("SCHEMA: Banco não é MySQL; busca de prontuários usará LIKE.");
+                return;
+            }
+            preencherBuscaTexto();
+            if (!indiceExiste()) {
+                logger.info("SCHEMA: Criando índice FULLTEXT {} (ngram) em prontuarios.busca_texto.", INDICE_FULLTEXT);
+                jdbcTemplate.execute("ALTER TABLE prontuarios ADD FULLTEXT INDEX " + INDICE_FULLTEXT
+                        + " (busca_texto) WITH PARSER ngram");
+            }
+            disponivel = true;
+        } catch (DataAccessException e) {
+            logger.warn("SCHEMA: Não foi possível preparar a busca full-text; usando LIKE. Causa: {}", e.getMessage());
+        }
+    }
+
+    private boolean indiceExiste() {
+        Integer total = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE() "
+                        + "AND table_name = 'prontuarios' AND index_name = ?",
+                Integer.class, INDICE_FULLTEXT);
+        return total != null && total > 0;
+    }
+
+    private void preencherBuscaTexto() {
+        int atualizados = BancoDadosUtil.preencherEmLotes(jdbcTemplate, "prontuarios", "busca_texto",
+                "UPDATE prontuarios p JOIN pacientes pa ON pa.id = p.paciente_id "
+                        + "SET p.busca_texto = LOWER(CONCAT_WS(' ', p.numero_prontuario, pa.nome, pa.cpf, "
+                        + "REPLACE(REPLACE(pa.cpf, '.', ''), '-', ''))) "
+                        + "WHERE p.busca_texto IS NULL AND p.id BETWEEN ? AND ?");
+        if (atualizados > 0) {
+            logger.info("SCHEMA: busca_texto preenchido para {} prontuários.", atualizados);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.main.config;
+
+import com.main.util.BancoDadosUtil;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.metamodel.EntityType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Field;
+
+@Component
+public class GeradorIdSchema implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(GeradorIdSchema.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public GeradorIdSchema(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!BancoDadosUtil.isMySql(jdbcTemplate.getDataSource())) {
+            return;
+        }
+        for (EntityType<?> entidade : entityManagerFactory.getMetamodel().getEntities()) {
+            Class<?> tipo = entidade.getJavaType();
+            Table tabela = tipo.getAnnotation(Table.class);
+            SequenceGenerator gerador = geradorDoId(tipo);
+            if (tabela == null || gerador == null) {
+                continue;
+            }
+            try {
+                alinharSequencia(tabela.name(), gerador);
+            } catch (DataAccessException e) {
+                logger.warn("SCHEMA: Não foi possível alinhar {} com {}.id. Causa: {}",
+                        gerador.sequenceName(), tabela.name(), e.getMessage());
+            }
+        }
+    }
+
+    private void alinharSequencia(String tabela, SequenceGenerator gerador) {
+        String sequencia = gerador.sequenceName();
+        Integer linhas = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + sequencia, Integer.class);
+        if (linhas == null || linhas == 0) {
+            jdbcTemplate.update("INSERT INTO " + sequencia + " (next_val) VALUES (?)", gerador.initialValue());
+        }
+        int atualizados = jdbcTemplate.update("UPDATE " + sequencia + " SET next_val = GREATEST(next_val, "
+                + "(SELECT COALESCE(MAX(id), 0) + ? FROM " + tabela + "))", gerador.allocationSize() + 1);
+        if (atualizados > 0) {
+            logger.info("SCHEMA: Sequência {} alinhada ao maior id de {}.", sequencia, tabela);
+        }
+    }
+
+    private static SequenceGenerator geradorDoId(Class<?> tipo) {
+        for (Field campo : tipo.getDeclaredFields()) {
+            SequenceGenerator gerador = campo.getAnnotation(SequenceGenerator.class);
+            if (gerador != null) {
+                return gerador;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,37 @@
+package com.main.config;
+
+import com.main.util.BancoDadosUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PacienteCpfDigitosSchema implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(PacienteCpfDigitosSchema.class);
+
+    private static final String SQL_PREENCHER =
+            "UPDATE pacientes SET cpf_digitos = REPLACE(REPLACE(REPLACE(cpf, '.', ''), '-', ''), ' ', '') "
+                    + "WHERE cpf_digitos IS NULL AND id BETWEEN ? AND ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PacienteCpfDigitosSchema(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        try {
+            int atualizados = BancoDadosUtil.preencherEmLotes(jdbcTemplate, "pacientes", "cpf_digitos", SQL_PREENCHER);
+            if (atualizados > 0) {
+                logger.info("SCHEMA: cpf_digitos preenchido para {} pacientes.", atualizados);
+            }
+        } catch (DataAccessException e) {
+            logger.warn("SCHEMA: Não foi possível preencher pacientes.cpf_digitos. Causa: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.main.config;
+
+import com.main.util.BancoDadosUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ProntuarioResumoSchema implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProntuarioResumoSchema.class);
+
+    private static final String SQL_PREENCHER =
+            "UPDATE prontuarios SET "
+                    + "total_consultas = (SELECT COUNT(*) FROM registros_consultas r WHERE r.prontuario_id = prontuarios.id AND r.deleted_at IS NULL), "
+                    + "total_exames = (SELECT COUNT(*) FROM registros_exames r WHERE r.prontuario_id = prontuarios.id AND r.deleted_at IS NULL), "
+                    + "total_procedimentos = (SELECT COUNT(*) FROM registros_procedimentos r WHERE r.prontuario_id = prontuarios.id AND r.deleted_at IS NULL), "
+                    + "total_encaminhamentos = (SELECT COUNT(*) FROM registros_encaminhamentos r WHERE r.prontuario_id = prontuarios.id AND r.deleted_at IS NULL), "
+                    + "ultima_consulta_em = (SELECT MAX(r.data_consulta) FROM registros_consultas r WHERE r.prontuario_id = prontuarios.id AND r.deleted_at IS NULL), "
+                    + "ultimo_exame_em = (SELECT MAX(r.data_exame) FROM registros_exames r WHERE r.prontuario_id = prontuarios.id AND r.deleted_at IS NULL), "
+                    + "ultimo_medico_id = medico_responsavel_id, "
+                    + "ultimo_medico_nome = (SELECT m.nome_completo FROM medicos m WHERE m.id = prontuarios.medico_responsavel_id) "
+                    + "WHERE total_consultas IS NULL AND id BETWEEN ? AND ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProntuarioResumoSchema(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        try {
+            int atualizados = BancoDadosUtil.preencherEmLotes(jdbcTemplate, "prontuarios", "total_consultas", SQL_PREENCHER);
+            if (atualizados > 0) {
+                logger.info("SCHEMA: Resumo de atividade preenchido para {} prontuários.", atualizados);
+            }
+        } catch (DataAccessException e) {
+            logger.warn("SCHEMA: Não foi possível preencher o resumo de atividade dos prontuários. Causa: {}", e.getMessage());
+        }
+    }
+}
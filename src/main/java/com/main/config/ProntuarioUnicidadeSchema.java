@@ -0,0 +1,46 @@
+package com.main.config;
+
+import com.main.domain.entity.ProntuarioEntity;
+import com.main.util.BancoDadosUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ProntuarioUnicidadeSchema implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProntuarioUnicidadeSchema.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProntuarioUnicidadeSchema(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Integer duplicados = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM (SELECT paciente_id FROM prontuarios GROUP BY paciente_id HAVING COUNT(*) > 1) d",
+                Integer.class);
+        if (duplicados != null && duplicados > 0) {
+            logger.error("SCHEMA: {} pacientes têm mais de um prontuário; unifique-os antes de iniciar a aplicação.", duplicados);
+            throw new IllegalStateException(duplicados + " pacientes têm mais de um prontuário; a restrição "
+                    + ProntuarioEntity.UK_PACIENTE + " não pode ser criada.");
+        }
+        if (BancoDadosUtil.isMySql(jdbcTemplate.getDataSource()) && !restricaoExiste()) {
+            logger.error("SCHEMA: Restrição {} ausente em prontuarios.paciente_id.", ProntuarioEntity.UK_PACIENTE);
+            throw new IllegalStateException("A restrição " + ProntuarioEntity.UK_PACIENTE
+                    + " não existe; a criação de prontuários depende dela para não duplicar registros.");
+        }
+    }
+
+    private boolean restricaoExiste() {
+        Integer total = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE() "
+                        + "AND table_name = 'prontuarios' AND index_name = ? AND non_unique = 0",
+                Integer.class, ProntuarioEntity.UK_PACIENTE);
+        return total != null && total > 0;
+    }
+}
@@ -2,6 +2,7 @@ package com.main.config;
 
 import com.main.util.JwtRequestFilter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -24,9 +25,12 @@ public class SecurityConfig {
     @Autowired
     private JwtRequestFilter jwtRequestFilter;
 
+    @Value("${app.seguranca.bcrypt.custo:10}")
+    private int custoBcrypt;
+
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BCryptPasswordEncoder(custoBcrypt);
     }
 
     @Bean
@@ -38,6 +42,7 @@ public class SecurityConfig {
                 .authorizeHttpRequests(authorize -> authorize
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/administradores/login").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/administradores/token/refresh").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/administradores/registrar").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/administradores/verificar-palavra-chave").permitAll()
                         .requestMatchers(HttpMethod.PUT, "/api/administradores/redefinir-senha").permitAll()
@@ -60,10 +65,11 @@ public class SecurityConfig {
         configuration.setAllowedOrigins(Arrays.asList("http://localhost:5173"));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS", "HEAD"));
         configuration.setAllowedHeaders(Arrays.asList(
-                "Authorization", "Cache-Control", "Content-Type", "X-XSRF-TOKEN",
+                "Authorization", "Cache-Control", "Content-Type", "X-XSRF-TOKEN", "If-Match",
                 "Origin", "Accept", "X-Requested-With",
                 "Access-Control-Request-Method", "Access-Control-Request-Headers"
         ));
+        configuration.setExposedHeaders(Arrays.asList("ETag"));
         configuration.setAllowCredentials(true);
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
@@ -0,0 +1,43 @@
+package com.main.config;
+
+import org.apache.coyote.ProtocolHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+@Profile("virtual-threads")
+public class VirtualThreadsConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadsConfig.class);
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadsProtocolHandlerCustomizer() {
+        ExecutorService executor = criarExecutorVirtual();
+        return protocolHandler -> {
+            if (executor != null) {
+                protocolHandler.setExecutor(executor);
+            }
+        };
+    }
+
+    private static ExecutorService criarExecutorVirtual() {
+        try {
+            ExecutorService executor = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+            logger.info("CONFIG: Requisições HTTP serão executadas em virtual threads.");
+            return executor;
+        } catch (ReflectiveOperationException e) {
+            logger.warn("CONFIG: Perfil virtual-threads ativo, mas a JVM ({}) não suporta virtual threads; mantendo o pool de threads do Tomcat.",
+                    System.getProperty("java.version"));
+            return null;
+        }
+    }
+}
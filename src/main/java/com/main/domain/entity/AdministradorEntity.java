@@ -12,7 +12,8 @@ import java.util.Collections;
 @Table(name = "administradores")
 public class AdministradorEntity implements UserDetails {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "administradores_seq")
+    @SequenceGenerator(name = "administradores_seq", sequenceName = "administradores_seq", allocationSize = 50)
     private Long id;
     private String nome;
 
@@ -9,7 +9,8 @@ import java.time.LocalDateTime;
 public class AlergiaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "paciente_alergias_seq")
+    @SequenceGenerator(name = "paciente_alergias_seq", sequenceName = "paciente_alergias_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -9,7 +9,8 @@ import java.time.LocalDateTime;
 public class ComorbidadeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "paciente_comorbidades_seq")
+    @SequenceGenerator(name = "paciente_comorbidades_seq", sequenceName = "paciente_comorbidades_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -4,11 +4,14 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "registros_consultas")
+@Table(name = "registros_consultas", indexes = {
+        @Index(name = "idx_consultas_prontuario_data", columnList = "prontuario_id, data_consulta, id")
+})
 public class ConsultaRegistroEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "registros_consultas_seq")
+    @SequenceGenerator(name = "registros_consultas_seq", sequenceName = "registros_consultas_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -56,6 +59,10 @@ public class ConsultaRegistroEntity {
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
+    @Version
+    @Column(name = "versao", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long versao;
+
     @PrePersist
     protected void onCreate() {
         createdAt = updatedAt = LocalDateTime.now();
@@ -70,6 +77,7 @@ public class ConsultaRegistroEntity {
     }
 
     public Long getId() { return id; }
+    public Long getVersao() { return versao; }
     public void setId(Long id) { this.id = id; }
     public ProntuarioEntity getProntuario() { return prontuario; }
     public void setProntuario(ProntuarioEntity prontuario) { this.prontuario = prontuario; }
@@ -9,7 +9,8 @@ import java.util.Objects;
 public class ContatoEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "contatos_seq")
+    @SequenceGenerator(name = "contatos_seq", sequenceName = "contatos_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = true)
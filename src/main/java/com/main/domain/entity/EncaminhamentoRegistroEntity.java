@@ -4,11 +4,14 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "registros_encaminhamentos")
+@Table(name = "registros_encaminhamentos", indexes = {
+        @Index(name = "idx_encaminhamentos_prontuario_data", columnList = "prontuario_id, data_encaminhamento, id")
+})
 public class EncaminhamentoRegistroEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "registros_encaminhamentos_seq")
+    @SequenceGenerator(name = "registros_encaminhamentos_seq", sequenceName = "registros_encaminhamentos_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -40,6 +43,10 @@ public class EncaminhamentoRegistroEntity {
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
+    @Version
+    @Column(name = "versao", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long versao;
+
     @PrePersist
     protected void onCreate() {
         createdAt = updatedAt = LocalDateTime.now();
@@ -54,6 +61,7 @@ public class EncaminhamentoRegistroEntity {
     }
 
     public Long getId() { return id; }
+    public Long getVersao() { return versao; }
     public void setId(Long id) { this.id = id; }
     public ProntuarioEntity getProntuario() { return prontuario; }
     public void setProntuario(ProntuarioEntity prontuario) { this.prontuario = prontuario; }
@@ -8,7 +8,8 @@ import java.time.LocalDateTime;
 public class EnderecoEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "enderecos_seq")
+    @SequenceGenerator(name = "enderecos_seq", sequenceName = "enderecos_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
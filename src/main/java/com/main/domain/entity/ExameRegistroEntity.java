@@ -4,11 +4,14 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "registros_exames")
+@Table(name = "registros_exames", indexes = {
+        @Index(name = "idx_exames_prontuario_data", columnList = "prontuario_id, data_exame, id")
+})
 public class ExameRegistroEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "registros_exames_seq")
+    @SequenceGenerator(name = "registros_exames_seq", sequenceName = "registros_exames_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -40,6 +43,10 @@ public class ExameRegistroEntity {
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
+    @Version
+    @Column(name = "versao", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long versao;
+
     @PrePersist
     protected void onCreate() {
         createdAt = updatedAt = LocalDateTime.now();
@@ -54,6 +61,7 @@ public class ExameRegistroEntity {
     }
 
     public Long getId() { return id; }
+    public Long getVersao() { return versao; }
     public void setId(Long id) { this.id = id; }
     public ProntuarioEntity getProntuario() { return prontuario; }
     public void setProntuario(ProntuarioEntity prontuario) { this.prontuario = prontuario; }
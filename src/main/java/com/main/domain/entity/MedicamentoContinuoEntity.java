@@ -9,7 +9,8 @@ import java.time.LocalDateTime;
 public class MedicamentoContinuoEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "paciente_medicamentos_continuos_seq")
+    @SequenceGenerator(name = "paciente_medicamentos_continuos_seq", sequenceName = "paciente_medicamentos_continuos_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
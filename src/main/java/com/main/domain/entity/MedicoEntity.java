@@ -4,14 +4,17 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "medicos")
+@Table(name = "medicos", indexes = {
+        @Index(name = "idx_medicos_nome_completo_id", columnList = "nome_completo, id")
+})
 public class MedicoEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "medicos_seq")
+    @SequenceGenerator(name = "medicos_seq", sequenceName = "medicos_seq", allocationSize = 50)
     private Long id;
 
-    @Column(nullable = false)
+    @Column(name = "nome_completo", nullable = false)
     private String nomeCompleto;
 
     @Column(nullable = false, unique = true)
@@ -1,5 +1,6 @@
 package com.main.domain.entity;
 
+import com.main.util.CpfUtil;
 import jakarta.persistence.*;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -7,10 +8,14 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "pacientes")
+@Table(name = "pacientes", indexes = {
+        @Index(name = "idx_pacientes_cpf_digitos", columnList = "cpf_digitos"),
+        @Index(name = "idx_pacientes_nome_id", columnList = "nome, id")
+})
 public class PacienteEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pacientes_seq")
+    @SequenceGenerator(name = "pacientes_seq", sequenceName = "pacientes_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -22,6 +27,9 @@ public class PacienteEntity {
     @Column(unique = true, nullable = false)
     private String cpf;
 
+    @Column(name = "cpf_digitos", columnDefinition = "CHAR(11)")
+    private String cpfDigitos;
+
     private String rg;
 
     @Enumerated(EnumType.STRING)
@@ -75,11 +83,13 @@ public class PacienteEntity {
     @PrePersist
     protected void onCreate() {
         createdAt = updatedAt = LocalDateTime.now();
+        cpfDigitos = CpfUtil.normalizar(cpf);
     }
 
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        cpfDigitos = CpfUtil.normalizar(cpf);
     }
 
     public enum Genero { MASCULINO, FEMININO, OUTRO, NAO_INFORMADO }
@@ -94,6 +104,7 @@ public class PacienteEntity {
     public void setDataNascimento(LocalDate dataNascimento) { this.dataNascimento = dataNascimento; }
     public String getCpf() { return cpf; }
     public void setCpf(String cpf) { this.cpf = cpf; }
+    public String getCpfDigitos() { return cpfDigitos; }
     public String getRg() { return rg; }
     public void setRg(String rg) { this.rg = rg; }
     public Genero getGenero() { return genero; }
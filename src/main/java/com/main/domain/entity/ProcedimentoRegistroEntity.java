@@ -4,11 +4,14 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "registros_procedimentos")
+@Table(name = "registros_procedimentos", indexes = {
+        @Index(name = "idx_procedimentos_prontuario_data", columnList = "prontuario_id, data_procedimento, id")
+})
 public class ProcedimentoRegistroEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "registros_procedimentos_seq")
+    @SequenceGenerator(name = "registros_procedimentos_seq", sequenceName = "registros_procedimentos_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -37,6 +40,10 @@ public class ProcedimentoRegistroEntity {
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
+    @Version
+    @Column(name = "versao", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long versao;
+
     @PrePersist
     protected void onCreate() {
         createdAt = updatedAt = LocalDateTime.now();
@@ -51,6 +58,7 @@ public class ProcedimentoRegistroEntity {
     }
 
     public Long getId() { return id; }
+    public Long getVersao() { return versao; }
     public void setId(Long id) { this.id = id; }
     public ProntuarioEntity getProntuario() { return prontuario; }
     public void setProntuario(ProntuarioEntity prontuario) { this.prontuario = prontuario; }
@@ -11,11 +11,19 @@ import java.util.Objects;
 import java.util.UUID;
 
 @Entity
-@Table(name = "prontuarios")
+@Table(name = "prontuarios", uniqueConstraints = {
+        @UniqueConstraint(name = ProntuarioEntity.UK_PACIENTE, columnNames = "paciente_id")
+}, indexes = {
+        @Index(name = "idx_prontuarios_updated_at_id", columnList = "updated_at, id"),
+        @Index(name = "idx_prontuarios_created_at_id", columnList = "created_at, id")
+})
 public class ProntuarioEntity {
 
+    public static final String UK_PACIENTE = "uk_prontuarios_paciente";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "prontuarios_seq")
+    @SequenceGenerator(name = "prontuarios_seq", sequenceName = "prontuarios_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -47,6 +55,37 @@ public class ProntuarioEntity {
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
+    @Version
+    @Column(name = "versao", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long versao;
+
+    @Column(name = "busca_texto", length = 512)
+    private String buscaTexto;
+
+    @Column(name = "total_consultas", updatable = false)
+    private Integer totalConsultas;
+
+    @Column(name = "total_exames", updatable = false)
+    private Integer totalExames;
+
+    @Column(name = "total_procedimentos", updatable = false)
+    private Integer totalProcedimentos;
+
+    @Column(name = "total_encaminhamentos", updatable = false)
+    private Integer totalEncaminhamentos;
+
+    @Column(name = "ultima_consulta_em", insertable = false, updatable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime ultimaConsultaEm;
+
+    @Column(name = "ultimo_exame_em", insertable = false, updatable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime ultimoExameEm;
+
+    @Column(name = "ultimo_medico_id", insertable = false, updatable = false)
+    private Long ultimoMedicoId;
+
+    @Column(name = "ultimo_medico_nome", insertable = false, updatable = false)
+    private String ultimoMedicoNome;
+
     @OneToMany(mappedBy = "prontuario", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private Set<ConsultaRegistroEntity> consultas = new HashSet<>();
 
@@ -64,6 +103,7 @@ public class ProntuarioEntity {
     }
 
     public Long getId() { return id; }
+    public Long getVersao() { return versao; }
     public void setId(Long id) { this.id = id; }
     public String getNumeroProntuario() { return numeroProntuario; }
     public void setNumeroProntuario(String numeroProntuario) { this.numeroProntuario = numeroProntuario; }
@@ -86,6 +126,17 @@ public class ProntuarioEntity {
     public Set<EncaminhamentoRegistroEntity> getEncaminhamentosRegistrados() { return encaminhamentosRegistrados; }
     public void setEncaminhamentosRegistrados(Set<EncaminhamentoRegistroEntity> encaminhamentosRegistrados) { this.encaminhamentosRegistrados = encaminhamentosRegistrados; }
 
+    public String getBuscaTexto() { return buscaTexto; }
+    public void setBuscaTexto(String buscaTexto) { this.buscaTexto = buscaTexto; }
+    public Integer getTotalConsultas() { return totalConsultas; }
+    public Integer getTotalExames() { return totalExames; }
+    public Integer getTotalProcedimentos() { return totalProcedimentos; }
+    public Integer getTotalEncaminhamentos() { return totalEncaminhamentos; }
+    public LocalDateTime getUltimaConsultaEm() { return ultimaConsultaEm; }
+    public LocalDateTime getUltimoExameEm() { return ultimoExameEm; }
+    public Long getUltimoMedicoId() { return ultimoMedicoId; }
+    public String getUltimoMedicoNome() { return ultimoMedicoNome; }
+
     public LocalDateTime getDeletedAt() {
         return deletedAt;
     }
@@ -97,6 +148,7 @@ public class ProntuarioEntity {
     @PrePersist
     protected void onCreate() {
         this.numeroProntuario = UUID.randomUUID().toString();
+        this.totalConsultas = this.totalExames = this.totalProcedimentos = this.totalEncaminhamentos = 0;
     }
 
     @PreUpdate
@@ -0,0 +1,56 @@
+package com.main.domain.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_familia", columnList = "familia"),
+        @Index(name = "idx_refresh_tokens_administrador", columnList = "administrador_id")
+})
+public class RefreshTokenEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "refresh_tokens_seq")
+    @SequenceGenerator(name = "refresh_tokens_seq", sequenceName = "refresh_tokens_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "administrador_id", nullable = false)
+    private AdministradorEntity administrador;
+
+    @Column(name = "token_hash", nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    @Column(nullable = false, length = 36, updatable = false)
+    private String familia;
+
+    @Column(nullable = false)
+    private LocalDateTime expiraEm;
+
+    @Column(name = "revogado_em")
+    private LocalDateTime revogadoEm;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public AdministradorEntity getAdministrador() { return administrador; }
+    public void setAdministrador(AdministradorEntity administrador) { this.administrador = administrador; }
+    public String getTokenHash() { return tokenHash; }
+    public void setTokenHash(String tokenHash) { this.tokenHash = tokenHash; }
+    public String getFamilia() { return familia; }
+    public void setFamilia(String familia) { this.familia = familia; }
+    public LocalDateTime getExpiraEm() { return expiraEm; }
+    public void setExpiraEm(LocalDateTime expiraEm) { this.expiraEm = expiraEm; }
+    public LocalDateTime getRevogadoEm() { return revogadoEm; }
+    public void setRevogadoEm(LocalDateTime revogadoEm) { this.revogadoEm = revogadoEm; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
@@ -0,0 +1,32 @@
+package com.main.domain.projection;
+
+import com.main.domain.entity.MedicoEntity;
+
+import java.time.LocalDateTime;
+
+public final class MedicoSnapshot {
+    private final Long id;
+    private final String nomeCompleto;
+    private final String crm;
+    private final String especialidade;
+    private final boolean ativo;
+
+    public MedicoSnapshot(Long id, String nomeCompleto, String crm, String especialidade, LocalDateTime deletedAt) {
+        this.id = id;
+        this.nomeCompleto = nomeCompleto;
+        this.crm = crm;
+        this.especialidade = especialidade;
+        this.ativo = deletedAt == null;
+    }
+
+    public static MedicoSnapshot de(MedicoEntity medico) {
+        return new MedicoSnapshot(medico.getId(), medico.getNomeCompleto(), medico.getCrm(),
+                medico.getEspecialidade(), medico.getDeletedAt());
+    }
+
+    public Long getId() { return id; }
+    public String getNomeCompleto() { return nomeCompleto; }
+    public String getCrm() { return crm; }
+    public String getEspecialidade() { return especialidade; }
+    public boolean isAtivo() { return ativo; }
+}
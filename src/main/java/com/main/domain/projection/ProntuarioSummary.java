@@ -0,0 +1,105 @@
+package com.main.domain.projection;
+
+import com.main.domain.entity.PacienteEntity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public class ProntuarioSummary {
+    private final Long id;
+    private final String numeroProntuario;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final Long versao;
+    private final Long pacienteId;
+    private final String pacienteNome;
+    private final String pacienteCpf;
+    private final LocalDate pacienteDataNascimento;
+    private final PacienteEntity.Genero pacienteGenero;
+    private final String pacienteCartaoSus;
+    private final String pacienteTelefone;
+    private final String pacienteEmail;
+    private final Long medicoId;
+    private final String medicoNomeCompleto;
+    private final String medicoCrm;
+    private final String medicoEspecialidade;
+    private final Long administradorId;
+    private final String administradorNome;
+    private final String administradorEmail;
+    private final Integer totalConsultas;
+    private final Integer totalExames;
+    private final Integer totalProcedimentos;
+    private final Integer totalEncaminhamentos;
+    private final LocalDateTime ultimaConsultaEm;
+    private final LocalDateTime ultimoExameEm;
+    private final Long ultimoMedicoId;
+    private final String ultimoMedicoNome;
+
+    public ProntuarioSummary(Long id, String numeroProntuario, LocalDateTime createdAt, LocalDateTime updatedAt,
+                             Long versao, Long pacienteId, String pacienteNome, String pacienteCpf, LocalDate pacienteDataNascimento,
+                             PacienteEntity.Genero pacienteGenero, String pacienteCartaoSus,
+                             String pacienteTelefone, String pacienteEmail,
+                             Long medicoId, String medicoNomeCompleto, String medicoCrm, String medicoEspecialidade,
+                             Long administradorId, String administradorNome, String administradorEmail,
+                             Integer totalConsultas, Integer totalExames, Integer totalProcedimentos,
+                             Integer totalEncaminhamentos, LocalDateTime ultimaConsultaEm, LocalDateTime ultimoExameEm,
+                             Long ultimoMedicoId, String ultimoMedicoNome) {
+        this.id = id;
+        this.numeroProntuario = numeroProntuario;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.versao = versao;
+        this.pacienteId = pacienteId;
+        this.pacienteNome = pacienteNome;
+        this.pacienteCpf = pacienteCpf;
+        this.pacienteDataNascimento = pacienteDataNascimento;
+        this.pacienteGenero = pacienteGenero;
+        this.pacienteCartaoSus = pacienteCartaoSus;
+        this.pacienteTelefone = pacienteTelefone;
+        this.pacienteEmail = pacienteEmail;
+        this.medicoId = medicoId;
+        this.medicoNomeCompleto = medicoNomeCompleto;
+        this.medicoCrm = medicoCrm;
+        this.medicoEspecialidade = medicoEspecialidade;
+        this.administradorId = administradorId;
+        this.administradorNome = administradorNome;
+        this.administradorEmail = administradorEmail;
+        this.totalConsultas = totalConsultas;
+        this.totalExames = totalExames;
+        this.totalProcedimentos = totalProcedimentos;
+        this.totalEncaminhamentos = totalEncaminhamentos;
+        this.ultimaConsultaEm = ultimaConsultaEm;
+        this.ultimoExameEm = ultimoExameEm;
+        this.ultimoMedicoId = ultimoMedicoId;
+        this.ultimoMedicoNome = ultimoMedicoNome;
+    }
+
+    public Long getId() { return id; }
+    public String getNumeroProntuario() { return numeroProntuario; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public Long getVersao() { return versao; }
+    public Long getPacienteId() { return pacienteId; }
+    public String getPacienteNome() { return pacienteNome; }
+    public String getPacienteCpf() { return pacienteCpf; }
+    public LocalDate getPacienteDataNascimento() { return pacienteDataNascimento; }
+    public PacienteEntity.Genero getPacienteGenero() { return pacienteGenero; }
+    public String getPacienteCartaoSus() { return pacienteCartaoSus; }
+    public String getPacienteTelefone() { return pacienteTelefone; }
+    public String getPacienteEmail() { return pacienteEmail; }
+    public Long getMedicoId() { return medicoId; }
+    public String getMedicoNomeCompleto() { return medicoNomeCompleto; }
+    public String getMedicoCrm() { return medicoCrm; }
+    public String getMedicoEspecialidade() { return medicoEspecialidade; }
+    public Long getAdministradorId() { return administradorId; }
+    public String getAdministradorNome() { return administradorNome; }
+    public String getAdministradorEmail() { return administradorEmail; }
+    public Integer getTotalConsultas() { return totalConsultas; }
+    public Integer getTotalExames() { return totalExames; }
+    public Integer getTotalProcedimentos() { return totalProcedimentos; }
+    public Integer getTotalEncaminhamentos() { return totalEncaminhamentos; }
+    public LocalDateTime getUltimaConsultaEm() { return ultimaConsultaEm; }
+    public LocalDateTime getUltimoExameEm() { return ultimoExameEm; }
+    public Long getUltimoMedicoId() { return ultimoMedicoId; }
+    public String getUltimoMedicoNome() { return ultimoMedicoNome; }
+}
@@ -2,8 +2,19 @@ package com.main.domain.repository;
 
 import com.main.domain.entity.AdministradorEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.util.Optional;
 
 public interface AdministradorRepository extends JpaRepository<AdministradorEntity, Long> {
     Optional<AdministradorEntity> findByEmail(String email);
+
+    @Modifying
+    @Query("UPDATE AdministradorEntity a SET a.senha = :senha WHERE a.id = :id")
+    int atualizarSenha(@Param("id") Long id, @Param("senha") String senha);
+
+    @Modifying
+    @Query("UPDATE AdministradorEntity a SET a.senha = :senhaNova WHERE a.id = :id AND a.senha = :senhaAtual")
+    int atualizarSenhaSeInalterada(@Param("id") Long id, @Param("senhaAtual") String senhaAtual, @Param("senhaNova") String senhaNova);
 }
\ No newline at end of file
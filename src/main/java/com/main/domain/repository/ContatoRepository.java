@@ -2,11 +2,18 @@ package com.main.domain.repository;
 
 import com.main.domain.entity.ContatoEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ContatoRepository extends JpaRepository<ContatoEntity, Long> {
     Optional<ContatoEntity> findByEmail(String email);
     Optional<ContatoEntity> findByTelefone(String telefone);
-}
\ No newline at end of file
+
+    @Query("SELECT c.email FROM ContatoEntity c WHERE c.email IN :emails")
+    List<String> findEmailsExistentes(@Param("emails") Collection<String> emails);
+}
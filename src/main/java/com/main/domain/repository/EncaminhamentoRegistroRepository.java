@@ -1,9 +1,36 @@
 package com.main.domain.repository;
 
 import com.main.domain.entity.EncaminhamentoRegistroEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface EncaminhamentoRegistroRepository extends JpaRepository<EncaminhamentoRegistroEntity, Long> {
+
+    @Query("SELECT e FROM EncaminhamentoRegistroEntity e " +
+            "LEFT JOIN FETCH e.medicoSolicitante " +
+            "WHERE e.prontuario.id = :prontuarioId")
+    List<EncaminhamentoRegistroEntity> findByProntuarioIdFetchingDetalhes(@Param("prontuarioId") Long prontuarioId);
+
+    @Query("SELECT e FROM EncaminhamentoRegistroEntity e " +
+            "LEFT JOIN FETCH e.medicoSolicitante " +
+            "WHERE e.prontuario.id = :prontuarioId " +
+            "ORDER BY e.dataEncaminhamento DESC, e.id DESC")
+    List<EncaminhamentoRegistroEntity> findMaisRecentesByProntuarioId(@Param("prontuarioId") Long prontuarioId, Pageable pageable);
+
+    @Query("SELECT e FROM EncaminhamentoRegistroEntity e " +
+            "LEFT JOIN FETCH e.medicoSolicitante " +
+            "WHERE e.prontuario.id = :prontuarioId " +
+            "AND (e.dataEncaminhamento < :data OR (e.dataEncaminhamento = :data AND e.id < :id)) " +
+            "ORDER BY e.dataEncaminhamento DESC, e.id DESC")
+    List<EncaminhamentoRegistroEntity> findAnterioresAoCursorByProntuarioId(@Param("prontuarioId") Long prontuarioId,
+            @Param("data") LocalDateTime data,
+            @Param("id") Long id,
+            Pageable pageable);
 }
\ No newline at end of file
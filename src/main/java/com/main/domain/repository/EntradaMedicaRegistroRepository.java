@@ -1,9 +1,39 @@
 package com.main.domain.repository;
 
 import com.main.domain.entity.ConsultaRegistroEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface EntradaMedicaRegistroRepository extends JpaRepository<ConsultaRegistroEntity, Long> {
+
+    @Query("SELECT c FROM ConsultaRegistroEntity c " +
+            "LEFT JOIN FETCH c.responsavelMedico " +
+            "LEFT JOIN FETCH c.sinaisVitais " +
+            "WHERE c.prontuario.id = :prontuarioId")
+    List<ConsultaRegistroEntity> findByProntuarioIdFetchingDetalhes(@Param("prontuarioId") Long prontuarioId);
+
+    @Query("SELECT c FROM ConsultaRegistroEntity c " +
+            "LEFT JOIN FETCH c.responsavelMedico " +
+            "LEFT JOIN FETCH c.sinaisVitais " +
+            "WHERE c.prontuario.id = :prontuarioId " +
+            "ORDER BY c.dataConsulta DESC, c.id DESC")
+    List<ConsultaRegistroEntity> findMaisRecentesByProntuarioId(@Param("prontuarioId") Long prontuarioId, Pageable pageable);
+
+    @Query("SELECT c FROM ConsultaRegistroEntity c " +
+            "LEFT JOIN FETCH c.responsavelMedico " +
+            "LEFT JOIN FETCH c.sinaisVitais " +
+            "WHERE c.prontuario.id = :prontuarioId " +
+            "AND (c.dataConsulta < :data OR (c.dataConsulta = :data AND c.id < :id)) " +
+            "ORDER BY c.dataConsulta DESC, c.id DESC")
+    List<ConsultaRegistroEntity> findAnterioresAoCursorByProntuarioId(@Param("prontuarioId") Long prontuarioId,
+            @Param("data") LocalDateTime data,
+            @Param("id") Long id,
+            Pageable pageable);
 }
\ No newline at end of file
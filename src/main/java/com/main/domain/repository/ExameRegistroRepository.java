@@ -1,9 +1,36 @@
 package com.main.domain.repository;
 
 import com.main.domain.entity.ExameRegistroEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface ExameRegistroRepository extends JpaRepository<ExameRegistroEntity, Long> {
+
+    @Query("SELECT e FROM ExameRegistroEntity e " +
+            "LEFT JOIN FETCH e.medicoResponsavelExame " +
+            "WHERE e.prontuario.id = :prontuarioId")
+    List<ExameRegistroEntity> findByProntuarioIdFetchingDetalhes(@Param("prontuarioId") Long prontuarioId);
+
+    @Query("SELECT e FROM ExameRegistroEntity e " +
+            "LEFT JOIN FETCH e.medicoResponsavelExame " +
+            "WHERE e.prontuario.id = :prontuarioId " +
+            "ORDER BY e.dataExame DESC, e.id DESC")
+    List<ExameRegistroEntity> findMaisRecentesByProntuarioId(@Param("prontuarioId") Long prontuarioId, Pageable pageable);
+
+    @Query("SELECT e FROM ExameRegistroEntity e " +
+            "LEFT JOIN FETCH e.medicoResponsavelExame " +
+            "WHERE e.prontuario.id = :prontuarioId " +
+            "AND (e.dataExame < :data OR (e.dataExame = :data AND e.id < :id)) " +
+            "ORDER BY e.dataExame DESC, e.id DESC")
+    List<ExameRegistroEntity> findAnterioresAoCursorByProntuarioId(@Param("prontuarioId") Long prontuarioId,
+            @Param("data") LocalDateTime data,
+            @Param("id") Long id,
+            Pageable pageable);
 }
\ No newline at end of file
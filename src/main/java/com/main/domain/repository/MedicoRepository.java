@@ -1,10 +1,15 @@
 package com.main.domain.repository;
 
 import com.main.domain.entity.MedicoEntity;
+import com.main.domain.projection.MedicoSnapshot;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.List;
 import java.util.Optional;
 
 public interface MedicoRepository extends JpaRepository<MedicoEntity, Long>, JpaSpecificationExecutor<MedicoEntity> {
@@ -16,4 +21,19 @@ public interface MedicoRepository extends JpaRepository<MedicoEntity, Long>, Jpa
 
     Page<MedicoEntity> findByEspecialidadeIgnoreCase(String especialidade, Pageable pageable);
     Page<MedicoEntity> findByCrmIgnoreCase(String crm, Pageable pageable);
+
+    Slice<MedicoEntity> findSliceBy(Pageable pageable);
+    Slice<MedicoEntity> findSliceByNomeCompletoContainingIgnoreCase(String nome, Pageable pageable);
+    Slice<MedicoEntity> findSliceByDeletedAtIsNull(Pageable pageable);
+    Slice<MedicoEntity> findSliceByDeletedAtIsNotNull(Pageable pageable);
+    Slice<MedicoEntity> findSliceByEspecialidadeIgnoreCase(String especialidade, Pageable pageable);
+    Slice<MedicoEntity> findSliceByCrmIgnoreCase(String crm, Pageable pageable);
+
+    @Query("SELECT new com.main.domain.projection.MedicoSnapshot(m.id, m.nomeCompleto, m.crm, m.especialidade, m.deletedAt) " +
+            "FROM MedicoEntity m")
+    List<MedicoSnapshot> findAllSnapshots();
+
+    @Query("SELECT new com.main.domain.projection.MedicoSnapshot(m.id, m.nomeCompleto, m.crm, m.especialidade, m.deletedAt) " +
+            "FROM MedicoEntity m WHERE m.id = :id")
+    Optional<MedicoSnapshot> findSnapshotById(@Param("id") Long id);
 }
\ No newline at end of file
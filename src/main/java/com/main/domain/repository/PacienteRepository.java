@@ -3,15 +3,33 @@ package com.main.domain.repository;
 import com.main.domain.entity.PacienteEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PacienteRepository extends JpaRepository<PacienteEntity, Long>, JpaSpecificationExecutor<PacienteEntity> {
-    Optional<PacienteEntity> findByCpf(String cpf);
+    Optional<PacienteEntity> findFirstByCpfDigitos(String cpfDigitos);
     Page<PacienteEntity> findByNomeContainingIgnoreCase(String nome, Pageable pageable);
-    Page<PacienteEntity> findByCpfStartingWith(String cpf, Pageable pageable);
+    Page<PacienteEntity> findByCpfDigitosBetween(String inicio, String fim, Pageable pageable);
+
+    Slice<PacienteEntity> findSliceBy(Pageable pageable);
+    Slice<PacienteEntity> findSliceByNomeContainingIgnoreCase(String nome, Pageable pageable);
+    Slice<PacienteEntity> findSliceByCpfDigitosBetween(String inicio, String fim, Pageable pageable);
+
+    @Query("SELECT p.id, p.nome FROM PacienteEntity p WHERE p.id > :aposId ORDER BY p.id")
+    List<Object[]> findIdENomeAposId(@Param("aposId") Long aposId, Pageable pageable);
+
+    @Query("SELECT p.cpfDigitos FROM PacienteEntity p WHERE p.cpfDigitos IN :cpfs")
+    List<String> findCpfDigitosExistentes(@Param("cpfs") Collection<String> cpfs);
+
+    @Query("SELECT p.cartaoSus FROM PacienteEntity p WHERE p.cartaoSus IN :cartoes")
+    List<String> findCartoesSusExistentes(@Param("cartoes") Collection<String> cartoes);
 
     @EntityGraph(attributePaths = {"endereco", "contato", "alergias", "comorbidades", "medicamentosContinuos"})
     Optional<PacienteEntity> findById(Long id);
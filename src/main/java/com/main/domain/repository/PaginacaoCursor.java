@@ -0,0 +1,68 @@
+package com.main.domain.repository;
+
+import com.main.api.model.CursorListagem;
+import com.main.api.model.CursorPageDTO;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public final class PaginacaoCursor {
+
+    public static final int TAMANHO_MAXIMO = 100;
+
+    private PaginacaoCursor() {
+    }
+
+    public static Sort.Order ordem(String campo, Sort.Direction direcao, Collection<String> camposPermitidos) {
+        if (!camposPermitidos.contains(campo)) {
+            throw new IllegalArgumentException("Ordenação por '" + campo + "' não é suportada no modo cursor. Use: "
+                    + String.join(", ", camposPermitidos) + ".");
+        }
+        return new Sort.Order(direcao, campo);
+    }
+
+    public static int validarTamanho(int tamanho) {
+        if (tamanho < 1 || tamanho > TAMANHO_MAXIMO) {
+            throw new IllegalArgumentException("O parâmetro tamanho deve estar entre 1 e " + TAMANHO_MAXIMO + " no modo cursor.");
+        }
+        return tamanho;
+    }
+
+    public static Sort ordenacao(Sort.Order ordem) {
+        return Sort.by(ordem, new Sort.Order(ordem.getDirection(), "id"));
+    }
+
+    public static <Y extends Comparable<? super Y>> Predicate apos(CriteriaBuilder cb, Expression<? extends Y> chave,
+                                                                  Expression<Long> id, Sort.Direction direcao,
+                                                                  Y valor, Long ultimoId) {
+        if (direcao.isAscending()) {
+            return cb.or(cb.greaterThan(chave, valor), cb.and(cb.equal(chave, valor), cb.greaterThan(id, ultimoId)));
+        }
+        return cb.or(cb.lessThan(chave, valor), cb.and(cb.equal(chave, valor), cb.lessThan(id, ultimoId)));
+    }
+
+    public static <T, Y extends Comparable<? super Y>> Specification<T> apos(CursorListagem cursor, Y valor) {
+        return (root, query, cb) -> apos(cb, root.<Y>get(cursor.getCampo()), root.<Long>get("id"),
+                cursor.getDirecao(), valor, cursor.getId());
+    }
+
+    public static <E, D> CursorPageDTO<D> pagina(List<E> linhas, int tamanho, Sort.Order ordem,
+                                                 Function<E, ?> chave, Function<E, Long> id, Function<E, D> mapper) {
+        boolean temMais = linhas.size() > tamanho;
+        List<E> pagina = temMais ? linhas.subList(0, tamanho) : linhas;
+        String proximoCursor = null;
+        if (temMais) {
+            E ultimo = pagina.get(pagina.size() - 1);
+            proximoCursor = new CursorListagem(ordem.getProperty(), ordem.getDirection(), chave.apply(ultimo), id.apply(ultimo)).codificar();
+        }
+        List<D> itens = pagina.stream().map(mapper).collect(Collectors.toList());
+        return new CursorPageDTO<>(itens, proximoCursor, temMais);
+    }
+}
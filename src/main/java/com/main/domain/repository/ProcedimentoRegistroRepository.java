@@ -1,9 +1,36 @@
 package com.main.domain.repository;
 
 import com.main.domain.entity.ProcedimentoRegistroEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface ProcedimentoRegistroRepository extends JpaRepository<ProcedimentoRegistroEntity, Long> {
+
+    @Query("SELECT p FROM ProcedimentoRegistroEntity p " +
+            "LEFT JOIN FETCH p.medicoExecutor " +
+            "WHERE p.prontuario.id = :prontuarioId")
+    List<ProcedimentoRegistroEntity> findByProntuarioIdFetchingDetalhes(@Param("prontuarioId") Long prontuarioId);
+
+    @Query("SELECT p FROM ProcedimentoRegistroEntity p " +
+            "LEFT JOIN FETCH p.medicoExecutor " +
+            "WHERE p.prontuario.id = :prontuarioId " +
+            "ORDER BY p.dataProcedimento DESC, p.id DESC")
+    List<ProcedimentoRegistroEntity> findMaisRecentesByProntuarioId(@Param("prontuarioId") Long prontuarioId, Pageable pageable);
+
+    @Query("SELECT p FROM ProcedimentoRegistroEntity p " +
+            "LEFT JOIN FETCH p.medicoExecutor " +
+            "WHERE p.prontuario.id = :prontuarioId " +
+            "AND (p.dataProcedimento < :data OR (p.dataProcedimento = :data AND p.id < :id)) " +
+            "ORDER BY p.dataProcedimento DESC, p.id DESC")
+    List<ProcedimentoRegistroEntity> findAnterioresAoCursorByProntuarioId(@Param("prontuarioId") Long prontuarioId,
+            @Param("data") LocalDateTime data,
+            @Param("id") Long id,
+            Pageable pageable);
 }
\ No newline at end of file
@@ -3,26 +3,36 @@ package com.main.domain.repository;
 import com.main.domain.entity.ProntuarioEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ProntuarioRepository extends JpaRepository<ProntuarioEntity, Long>, JpaSpecificationExecutor<ProntuarioEntity> {
+public interface ProntuarioRepository extends JpaRepository<ProntuarioEntity, Long>, JpaSpecificationExecutor<ProntuarioEntity>, ProntuarioRepositoryCustom {
     Optional<ProntuarioEntity> findByPacienteId(Long pacienteId);
 
+    @Query("SELECT p.id FROM ProntuarioEntity p WHERE p.paciente.id = :pacienteId")
+    Optional<Long> findIdByPacienteId(@Param("pacienteId") Long pacienteId);
+
+    @Query("SELECT p.paciente.id, p.id FROM ProntuarioEntity p WHERE p.paciente.id IN :pacienteIds")
+    List<Object[]> findPacienteIdEIdByPacienteIdIn(@Param("pacienteIds") Collection<Long> pacienteIds);
+
     @Query("SELECT p FROM ProntuarioEntity p " +
             "LEFT JOIN FETCH p.paciente pac " +
             "LEFT JOIN FETCH pac.endereco " +
             "LEFT JOIN FETCH pac.contato " +
             "LEFT JOIN FETCH p.medicoResponsavel " +
             "LEFT JOIN FETCH p.administradorCriador " +
-            "LEFT JOIN FETCH p.consultas " +
-            "LEFT JOIN FETCH p.examesRegistrados " +
-            "LEFT JOIN FETCH p.procedimentosRegistrados " +
-            "LEFT JOIN FETCH p.encaminhamentosRegistrados " +
             "WHERE p.id = :id")
-    Optional<ProntuarioEntity> findByIdFetchingCollections(@Param("id") Long id);
+    Optional<ProntuarioEntity> findByIdFetchingCabecalho(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE ProntuarioEntity p SET p.buscaTexto = CONCAT(LOWER(p.numeroProntuario), ' ', :textoPaciente) " +
+            "WHERE p.paciente.id = :pacienteId")
+    int atualizarBuscaTextoDoPaciente(@Param("pacienteId") Long pacienteId, @Param("textoPaciente") String textoPaciente);
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.main.domain.repository;
+
+import com.main.api.model.CursorListagem;
+import com.main.domain.projection.ProntuarioSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+public interface ProntuarioRepositoryCustom {
+    Page<ProntuarioSummary> buscarResumos(String termo, String numeroProntuario, Pageable pageable);
+
+    Slice<ProntuarioSummary> buscarResumosSlice(String termo, String numeroProntuario, Pageable pageable);
+
+    List<ProntuarioSummary> buscarResumosAposCursor(String termo, String numeroProntuario, Sort.Order ordem,
+                                                    CursorListagem cursor, int maximo);
+}
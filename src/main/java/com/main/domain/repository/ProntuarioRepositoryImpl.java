@@ -0,0 +1,164 @@
+package com.main.domain.repository;
+
+import com.main.domain.entity.AdministradorEntity;
+import com.main.domain.entity.ContatoEntity;
+import com.main.domain.entity.MedicoEntity;
+import com.main.domain.entity.PacienteEntity;
+import com.main.domain.entity.ProntuarioEntity;
+import com.main.api.model.CursorListagem;
+import com.main.config.BuscaTextoSchema;
+import com.main.domain.projection.ProntuarioSummary;
+import com.main.util.BuscaTextoUtil;
+import com.main.util.CpfUtil;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ProntuarioRepositoryImpl implements ProntuarioRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private BuscaTextoSchema buscaTextoSchema;
+
+    @Override
+    public Page<ProntuarioSummary> buscarResumos(String termo, String numeroProntuario, Pageable pageable) {
+        List<ProntuarioSummary> conteudo = listarResumos(termo, numeroProntuario, pageable, pageable.isPaged() ? pageable.getPageSize() : -1);
+        return PageableExecutionUtils.getPage(conteudo, pageable, () -> contarResumos(termo, numeroProntuario));
+    }
+
+    @Override
+    public Slice<ProntuarioSummary> buscarResumosSlice(String termo, String numeroProntuario, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(listarResumos(termo, numeroProntuario, pageable, -1), pageable, false);
+        }
+        List<ProntuarioSummary> linhas = listarResumos(termo, numeroProntuario, pageable, pageable.getPageSize() + 1);
+        boolean temMais = linhas.size() > pageable.getPageSize();
+        List<ProntuarioSummary> conteudo = temMais ? linhas.subList(0, pageable.getPageSize()) : linhas;
+        return new SliceImpl<>(conteudo, pageable, temMais);
+    }
+
+    @Override
+    public List<ProntuarioSummary> buscarResumosAposCursor(String termo, String numeroProntuario, Sort.Order ordem,
+                                                           CursorListagem cursor, int maximo) {
+        TypedQuery<ProntuarioSummary> typedQuery = entityManager.createQuery(consultaResumos(termo, numeroProntuario, Sort.by(ordem), cursor));
+        typedQuery.setMaxResults(maximo);
+        return typedQuery.getResultList();
+    }
+
+    private List<ProntuarioSummary> listarResumos(String termo, String numeroProntuario, Pageable pageable, int maximo) {
+        TypedQuery<ProntuarioSummary> typedQuery = entityManager.createQuery(consultaResumos(termo, numeroProntuario, pageable.getSort(), null));
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(maximo);
+        }
+        return typedQuery.getResultList();
+    }
+
+    private CriteriaQuery<ProntuarioSummary> consultaResumos(String termo, String numeroProntuario, Sort sort, CursorListagem cursor) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<ProntuarioSummary> query = cb.createQuery(ProntuarioSummary.class);
+        Root<ProntuarioEntity> root = query.from(ProntuarioEntity.class);
+        Join<ProntuarioEntity, PacienteEntity> paciente = root.join("paciente", JoinType.INNER);
+        Join<PacienteEntity, ContatoEntity> contato = paciente.join("contato", JoinType.LEFT);
+        Join<ProntuarioEntity, MedicoEntity> medico = root.join("medicoResponsavel", JoinType.LEFT);
+        Join<ProntuarioEntity, AdministradorEntity> admin = root.join("administradorCriador", JoinType.LEFT);
+
+        query.select(cb.construct(ProntuarioSummary.class,
+                root.get("id"), root.get("numeroProntuario"), root.get("createdAt"), root.get("updatedAt"),
+                root.get("versao"), paciente.get("id"), paciente.get("nome"), paciente.get("cpf"), paciente.get("dataNascimento"),
+                paciente.get("genero"), paciente.get("cartaoSus"),
+                contato.get("telefone"), contato.get("email"),
+                medico.get("id"), medico.get("nomeCompleto"), medico.get("crm"), medico.get("especialidade"),
+                admin.get("id"), admin.get("nome"), admin.get("email"),
+                root.get("totalConsultas"), root.get("totalExames"), root.get("totalProcedimentos"),
+                root.get("totalEncaminhamentos"), root.get("ultimaConsultaEm"), root.get("ultimoExameEm"),
+                root.get("ultimoMedicoId"), root.get("ultimoMedicoNome")));
+        List<Predicate> predicates = new ArrayList<>(List.of(filtros(cb, root, paciente, termo, numeroProntuario)));
+        if (cursor != null) {
+            predicates.add(PaginacaoCursor.apos(cb, root.<LocalDateTime>get(cursor.getCampo()), root.<Long>get("id"),
+                    cursor.getDirecao(), cursor.getValorData(), cursor.getId()));
+        }
+        query.where(predicates.toArray(new Predicate[0]));
+        query.orderBy(ordenacao(cb, root, paciente, sort));
+        return query;
+    }
+
+    private long contarResumos(String termo, String numeroProntuario) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<ProntuarioEntity> root = query.from(ProntuarioEntity.class);
+        Join<ProntuarioEntity, PacienteEntity> paciente = StringUtils.hasText(termo) && termoFullText(termo) == null
+                ? root.join("paciente", JoinType.INNER)
+                : null;
+        query.select(cb.count(root));
+        query.where(filtros(cb, root, paciente, termo, numeroProntuario));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private String termoFullText(String termo) {
+        return buscaTextoSchema.isDisponivel() ? BuscaTextoUtil.termoFullText(termo) : null;
+    }
+
+    private Predicate[] filtros(CriteriaBuilder cb, Root<ProntuarioEntity> root, From<?, PacienteEntity> paciente,
+                                String termo, String numeroProntuario) {
+        List<Predicate> predicates = new ArrayList<>();
+        String termoFullText = termoFullText(termo);
+        if (termoFullText != null) {
+            predicates.add(cb.gt(
+                    cb.function("match_against", Double.class, root.get("buscaTexto"), cb.literal(termoFullText)),
+                    0.0));
+        } else if (StringUtils.hasText(termo)) {
+            String termoLike = "%" + termo.toLowerCase() + "%";
+            List<Predicate> alternativas = new ArrayList<>();
+            alternativas.add(cb.like(cb.lower(root.get("numeroProntuario")), termoLike));
+            alternativas.add(cb.like(cb.lower(paciente.get("nome")), termoLike));
+            String prefixoCpf = CpfUtil.normalizar(termo);
+            if (prefixoCpf != null && prefixoCpf.length() <= CpfUtil.TAMANHO_CPF) {
+                alternativas.add(cb.between(paciente.get("cpfDigitos"), CpfUtil.inicioFaixa(prefixoCpf), CpfUtil.fimFaixa(prefixoCpf)));
+            }
+            predicates.add(cb.or(alternativas.toArray(new Predicate[0])));
+        }
+        if (StringUtils.hasText(numeroProntuario)) {
+            predicates.add(cb.like(cb.lower(root.get("numeroProntuario")), "%" + numeroProntuario.toLowerCase() + "%"));
+        }
+        return predicates.toArray(new Predicate[0]);
+    }
+
+    private static List<Order> ordenacao(CriteriaBuilder cb, Root<ProntuarioEntity> root, From<?, PacienteEntity> paciente, Sort sort) {
+        List<Order> ordens = new ArrayList<>();
+        Sort.Direction ultimaDirecao = Sort.Direction.DESC;
+        for (Sort.Order ordem : sort) {
+            Path<?> caminho = ordem.getProperty().startsWith("paciente.")
+                    ? paciente.get(ordem.getProperty().substring("paciente.".length()))
+                    : root.get(ordem.getProperty());
+            ordens.add(ordem.isAscending() ? cb.asc(caminho) : cb.desc(caminho));
+            ultimaDirecao = ordem.getDirection();
+        }
+        ordens.add(ultimaDirecao.isAscending() ? cb.asc(root.get("id")) : cb.desc(root.get("id")));
+        return ordens;
+    }
+}
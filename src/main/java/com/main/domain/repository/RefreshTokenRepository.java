@@ -0,0 +1,32 @@
+package com.main.domain.repository;
+
+import com.main.domain.entity.RefreshTokenEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshTokenEntity, Long> {
+
+    @Query("SELECT t FROM RefreshTokenEntity t JOIN FETCH t.administrador WHERE t.tokenHash = :tokenHash")
+    Optional<RefreshTokenEntity> findByTokenHashFetchingAdministrador(@Param("tokenHash") String tokenHash);
+
+    @Modifying
+    @Query("UPDATE RefreshTokenEntity t SET t.revogadoEm = :agora WHERE t.id = :id AND t.revogadoEm IS NULL")
+    int revogarSeAtivo(@Param("id") Long id, @Param("agora") LocalDateTime agora);
+
+    @Modifying
+    @Query("UPDATE RefreshTokenEntity t SET t.revogadoEm = :agora WHERE t.familia = :familia AND t.revogadoEm IS NULL")
+    int revogarFamilia(@Param("familia") String familia, @Param("agora") LocalDateTime agora);
+
+    @Modifying
+    @Query("UPDATE RefreshTokenEntity t SET t.revogadoEm = :agora WHERE t.administrador.id = :administradorId AND t.revogadoEm IS NULL")
+    int revogarTodosDoAdministrador(@Param("administradorId") Long administradorId, @Param("agora") LocalDateTime agora);
+
+    @Modifying
+    @Query("DELETE FROM RefreshTokenEntity t WHERE t.administrador.id = :administradorId AND t.expiraEm < :agora")
+    int removerExpiradosDoAdministrador(@Param("administradorId") Long administradorId, @Param("agora") LocalDateTime agora);
+}
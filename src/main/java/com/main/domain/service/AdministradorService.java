@@ -9,26 +9,36 @@ import com.main.mapper.AdministradorMapper;
 import com.main.api.model.AdministradorLoginDTO;
 import com.main.api.model.AdministradorRegistroDTO;
 import com.main.api.model.RedefinirSenhaDTO;
+import com.main.api.model.RefreshTokenRequestDTO;
 import com.main.api.model.VerifiedProfileUpdateRequestDTO;
 import com.main.api.model.VerificarPalavraChaveDTO;
 import com.main.api.model.AdministradorDadosDTO;
 import com.main.domain.repository.AdministradorRepository;
+import com.main.util.AdministradorPrincipalCache;
 import com.main.util.JwtUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.HashMap;
 import java.util.Map;
 
 @Service
 public class AdministradorService {
 
+    private static final Logger logger = LoggerFactory.getLogger(AdministradorService.class);
+
     @Autowired
     private AdministradorRepository administradorRepository;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private SenhaHashService senhaHashService;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
 
     @Autowired
     private JwtUtil jwtUtil;
@@ -36,25 +46,56 @@ public class AdministradorService {
     @Autowired
     private AdministradorMapper administradorMapper;
 
+    @Autowired
+    private AdministradorPrincipalCache administradorPrincipalCache;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     private boolean isStrongPassword(String password) {
         if (password == null) return false;
         String regex = "^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d)(?=.*[@$!%*?&#])[A-Za-z\\d@$!%*?&#]{6,}$";
         return password.matches(regex);
     }
 
-    @Transactional(readOnly = true)
     public Map<String, Object> login(AdministradorLoginDTO loginDTO) {
         AdministradorEntity admin = administradorRepository.findByEmail(loginDTO.getEmail())
                 .orElseThrow(() -> new InvalidCredentialsException("Credenciais inválidas"));
 
-        if (!passwordEncoder.matches(loginDTO.getSenha(), admin.getSenha())) {
+        if (!senhaHashService.verificar(loginDTO.getSenha(), admin.getSenha())) {
             throw new InvalidCredentialsException("Credenciais inválidas");
         }
-        String token = jwtUtil.generateToken(admin.getEmail());
-        return administradorMapper.toLoginResponseMap(admin, token);
+        if (senhaHashService.precisaRecodificar(admin.getSenha())) {
+            recodificarSenha(admin, loginDTO.getSenha());
+        }
+        String token = jwtUtil.generateToken(admin);
+        Map<String, Object> response = administradorMapper.toLoginResponseMap(admin, token);
+        response.put("refreshToken", refreshTokenService.emitir(admin));
+        return response;
+    }
+
+    private void recodificarSenha(AdministradorEntity admin, String senha) {
+        try {
+            String senhaAtual = admin.getSenha();
+            String senhaNova = senhaHashService.codificar(senha);
+            transactionTemplate.executeWithoutResult(status ->
+                    administradorRepository.atualizarSenhaSeInalterada(admin.getId(), senhaAtual, senhaNova));
+        } catch (RuntimeException e) {
+            logger.warn("SERVICE: Não foi possível recodificar a senha do administrador {}; o hash atual foi mantido. Causa: {}",
+                    admin.getId(), e.getMessage());
+        }
+    }
+
+    public Map<String, Object> refreshToken(RefreshTokenRequestDTO refreshDTO) {
+        RefreshTokenService.Rotacao rotacao = refreshTokenService.rotacionar(refreshDTO.getRefreshToken());
+        AdministradorEntity admin = rotacao.getAdministrador();
+        String token = jwtUtil.generateToken(admin);
+        Map<String, Object> response = administradorMapper.toLoginResponseMap(admin, token);
+        response.put("mensagem", "Token renovado com sucesso");
+        response.put("refreshToken", rotacao.getRefreshToken());
+        return response;
     }
 
-    @Transactional
     public AdministradorDadosDTO register(AdministradorRegistroDTO registroDTO) {
         if (administradorRepository.findByEmail(registroDTO.getEmail()).isPresent()) {
             throw new EmailAlreadyExistsException("Email já cadastrado");
@@ -64,7 +105,7 @@ public class AdministradorService {
         }
 
         AdministradorEntity novoAdministrador = administradorMapper.toEntity(registroDTO);
-        novoAdministrador.setSenha(passwordEncoder.encode(registroDTO.getSenha()));
+        novoAdministrador.setSenha(senhaHashService.codificar(registroDTO.getSenha()));
 
         AdministradorEntity adminSalvo = administradorRepository.save(novoAdministrador);
         return administradorMapper.toDadosDTO(adminSalvo);
@@ -84,7 +125,6 @@ public class AdministradorService {
         return true;
     }
 
-    @Transactional
     public AdministradorDadosDTO resetPassword(RedefinirSenhaDTO redefinirDTO) {
         AdministradorEntity admin = administradorRepository.findByEmail(redefinirDTO.getEmail())
                 .orElseThrow(() -> new AdminNotFoundException("Administrador não encontrado"));
@@ -93,9 +133,14 @@ public class AdministradorService {
             throw new WeakPasswordException("Senha fraca! Use letras maiúsculas, minúsculas, número e símbolo.");
         }
 
-        admin.setSenha(passwordEncoder.encode(redefinirDTO.getNovaSenha()));
-        AdministradorEntity adminAtualizado = administradorRepository.save(admin);
-        return administradorMapper.toDadosDTO(adminAtualizado);
+        String senhaNova = senhaHashService.codificar(redefinirDTO.getNovaSenha());
+        transactionTemplate.executeWithoutResult(status -> {
+            administradorRepository.atualizarSenha(admin.getId(), senhaNova);
+            refreshTokenService.revogarTodos(admin.getId());
+            administradorPrincipalCache.invalidarAposCommit(admin.getEmail());
+        });
+        admin.setSenha(senhaNova);
+        return administradorMapper.toDadosDTO(admin);
     }
 
     @Transactional(readOnly = true)
@@ -105,11 +150,12 @@ public class AdministradorService {
     }
 
     @Transactional
-    public AdministradorDadosDTO updateVerifiedProfileDetails(String adminEmail, VerifiedProfileUpdateRequestDTO dto) {
-        AdministradorEntity admin = administradorRepository.findByEmail(adminEmail)
+    public Map<String, Object> updateVerifiedProfileDetails(Long adminId, VerifiedProfileUpdateRequestDTO dto) {
+        AdministradorEntity admin = administradorRepository.findById(adminId)
                 .orElseThrow(() -> new AdminNotFoundException("Administrador não encontrado."));
 
         boolean changed = false;
+        String emailAnterior = admin.getEmail();
 
         if (dto.getNome() != null && !dto.getNome().trim().isEmpty()) {
             if (!dto.getNome().trim().equals(admin.getNome())) {
@@ -153,6 +199,11 @@ public class AdministradorService {
         }
 
         AdministradorEntity updatedAdmin = administradorRepository.save(admin);
-        return administradorMapper.toDadosDTO(updatedAdmin);
+        administradorPrincipalCache.invalidarAposCommit(emailAnterior);
+        administradorPrincipalCache.invalidarAposCommit(updatedAdmin.getEmail());
+        Map<String, Object> response = new HashMap<>();
+        response.put("adminData", administradorMapper.toDadosDTO(updatedAdmin));
+        response.put("token", jwtUtil.generateToken(updatedAdmin));
+        return response;
     }
 }
\ No newline at end of file
@@ -4,24 +4,35 @@ import com.main.domain.entity.MedicoEntity;
 import com.main.api.exception.ResourceNotFoundException;
 import com.main.api.exception.CrmAlreadyExistsException;
 import com.main.mapper.MedicoMapper;
+import com.main.api.model.CursorListagem;
+import com.main.api.model.CursorPageDTO;
 import com.main.api.model.MedicoCreateDTO;
 import com.main.api.model.MedicoDTO;
 import com.main.api.model.MedicoUpdateDTO;
 import com.main.domain.repository.MedicoRepository;
+import com.main.domain.repository.PaginacaoCursor;
+import com.main.util.ContagemTotalCache;
+import com.main.util.MedicoSnapshotCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Service
 public class MedicoService {
 
     private static final Logger logger = LoggerFactory.getLogger(MedicoService.class);
+    private static final List<String> ORDENACOES_CURSOR = List.of("nomeCompleto", "crm");
 
     @Autowired
     private MedicoRepository medicoRepository;
@@ -29,6 +40,12 @@ public class MedicoService {
     @Autowired
     private MedicoMapper medicoMapper;
 
+    @Autowired
+    private ContagemTotalCache contagemTotalCache;
+
+    @Autowired
+    private MedicoSnapshotCache medicoSnapshotCache;
+
     @Transactional
     public MedicoDTO criarMedico(MedicoCreateDTO medicoCreateDTO) {
         logger.info("SERVICE: Tentando criar médico com CRM: {}", medicoCreateDTO.getCrm());
@@ -40,6 +57,8 @@ public class MedicoService {
         medicoEntity.setDeletedAt(null);
 
         MedicoEntity medicoSalvo = medicoRepository.save(medicoEntity);
+        contagemTotalCache.invalidarAposCommit(ContagemTotalCache.MEDICOS);
+        medicoSnapshotCache.atualizarAposCommit(medicoSalvo);
         logger.info("SERVICE: Médico criado com ID: {}", medicoSalvo.getId());
         return medicoMapper.toDTO(medicoSalvo);
     }
@@ -47,10 +66,62 @@ public class MedicoService {
     @Transactional(readOnly = true)
     public Page<MedicoDTO> buscarTodosMedicos(Pageable pageable) {
         logger.info("SERVICE: Buscando todos os médicos paginados.");
-        Page<MedicoEntity> medicosPage = medicoRepository.findAll(pageable);
+        Page<MedicoEntity> medicosPage = contagemTotalCache.paginar(ContagemTotalCache.MEDICOS,
+                medicoRepository.findSliceBy(pageable), medicoRepository::count);
         return medicoMapper.toDTOPage(medicosPage);
     }
 
+    @Transactional(readOnly = true)
+    public Slice<MedicoDTO> buscarMedicosSlice(String nome, String crm, String especialidade, String status, Pageable pageable) {
+        logger.info("SERVICE: Buscando médicos (slice). Filtros: nome='{}', crm='{}', especialidade='{}', status='{}'", nome, crm, especialidade, status);
+        Slice<MedicoEntity> medicosSlice;
+        if (StringUtils.hasText(nome)) {
+            medicosSlice = medicoRepository.findSliceByNomeCompletoContainingIgnoreCase(nome, pageable);
+        } else if (StringUtils.hasText(crm)) {
+            medicosSlice = medicoRepository.findSliceByCrmIgnoreCase(crm, pageable);
+        } else if (StringUtils.hasText(especialidade)) {
+            medicosSlice = medicoRepository.findSliceByEspecialidadeIgnoreCase(especialidade, pageable);
+        } else if ("ATIVO".equalsIgnoreCase(status)) {
+            medicosSlice = medicoRepository.findSliceByDeletedAtIsNull(pageable);
+        } else if ("INATIVO".equalsIgnoreCase(status)) {
+            medicosSlice = medicoRepository.findSliceByDeletedAtIsNotNull(pageable);
+        } else {
+            medicosSlice = medicoRepository.findSliceBy(pageable);
+        }
+        return medicosSlice.map(medicoMapper::toDTO);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDTO<MedicoDTO> buscarMedicosCursor(String nome, String crm, String especialidade, String status,
+                                                        String campo, Sort.Direction direcao, String cursor, int tamanho) {
+        logger.info("SERVICE: Buscando médicos (cursor). Filtros: nome='{}', crm='{}', especialidade='{}', status='{}'", nome, crm, especialidade, status);
+        Sort.Order ordem = PaginacaoCursor.ordem(campo, direcao, ORDENACOES_CURSOR);
+        int limite = PaginacaoCursor.validarTamanho(tamanho);
+        CursorListagem posicao = CursorListagem.decodificar(cursor, ordem);
+
+        Specification<MedicoEntity> filtro = Specification.where(null);
+        if (StringUtils.hasText(nome)) {
+            String termoLike = "%" + nome.toLowerCase() + "%";
+            filtro = filtro.and((root, query, cb) -> cb.like(cb.lower(root.get("nomeCompleto")), termoLike));
+        } else if (StringUtils.hasText(crm)) {
+            filtro = filtro.and((root, query, cb) -> cb.equal(cb.lower(root.get("crm")), crm.toLowerCase()));
+        } else if (StringUtils.hasText(especialidade)) {
+            filtro = filtro.and((root, query, cb) -> cb.equal(cb.lower(root.get("especialidade")), especialidade.toLowerCase()));
+        } else if ("ATIVO".equalsIgnoreCase(status)) {
+            filtro = filtro.and((root, query, cb) -> cb.isNull(root.get("deletedAt")));
+        } else if ("INATIVO".equalsIgnoreCase(status)) {
+            filtro = filtro.and((root, query, cb) -> cb.isNotNull(root.get("deletedAt")));
+        }
+        if (posicao != null) {
+            filtro = filtro.and(PaginacaoCursor.apos(posicao, posicao.getValor()));
+        }
+        List<MedicoEntity> linhas = medicoRepository.findBy(filtro,
+                consulta -> consulta.sortBy(PaginacaoCursor.ordenacao(ordem)).limit(limite + 1).all());
+        return PaginacaoCursor.pagina(linhas, limite, ordem,
+                "crm".equals(ordem.getProperty()) ? MedicoEntity::getCrm : MedicoEntity::getNomeCompleto,
+                MedicoEntity::getId, medicoMapper::toDTO);
+    }
+
     @Transactional(readOnly = true)
     public Page<MedicoDTO> buscarMedicosPorNome(String nome, Pageable pageable) {
         logger.info("SERVICE: Buscando médicos por nome contendo: {}", nome);
@@ -110,6 +181,7 @@ public class MedicoService {
         medicoMapper.updateEntityFromDTO(medicoUpdateDTO, medicoEntity);
 
         MedicoEntity medicoAtualizado = medicoRepository.save(medicoEntity);
+        medicoSnapshotCache.atualizarAposCommit(medicoAtualizado);
         logger.info("SERVICE: Médico atualizado com ID: {}", medicoAtualizado.getId());
         return medicoMapper.toDTO(medicoAtualizado);
     }
@@ -126,6 +198,7 @@ public class MedicoService {
             medicoEntity.setDeletedAt(LocalDateTime.now());
         }
         MedicoEntity medicoAtualizado = medicoRepository.save(medicoEntity);
+        medicoSnapshotCache.atualizarAposCommit(medicoAtualizado);
         logger.info("SERVICE: Médico com ID: {} {} com sucesso.", medicoAtualizado.getId(), ativar ? "ativado" : "inativado");
         return medicoMapper.toDTO(medicoAtualizado);
     }
@@ -138,6 +211,8 @@ public class MedicoService {
             throw new ResourceNotFoundException("Médico não encontrado com ID: " + id);
         }
         medicoRepository.deleteById(id);
+        contagemTotalCache.invalidarAposCommit(ContagemTotalCache.MEDICOS);
+        medicoSnapshotCache.removerAposCommit(id);
         logger.info("SERVICE: Médico deletado com ID: {}", id);
     }
 }
\ No newline at end of file
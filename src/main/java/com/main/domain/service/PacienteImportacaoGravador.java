@@ -0,0 +1,30 @@
+package com.main.domain.service;
+
+import com.main.api.model.PacienteCreateDTO;
+import com.main.domain.entity.PacienteEntity;
+import com.main.domain.repository.PacienteRepository;
+import com.main.mapper.PacienteMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+public class PacienteImportacaoGravador {
+
+    @Autowired
+    private PacienteRepository pacienteRepository;
+
+    @Autowired
+    private PacienteMapper pacienteMapper;
+
+    @Transactional
+    public List<PacienteEntity> gravar(List<PacienteCreateDTO> pacientes) {
+        List<PacienteEntity> entidades = pacientes.stream()
+                .map(pacienteMapper::toEntity)
+                .collect(Collectors.toList());
+        return pacienteRepository.saveAll(entidades);
+    }
+}
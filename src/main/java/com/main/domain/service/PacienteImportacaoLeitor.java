@@ -0,0 +1,229 @@
+package com.main.domain.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.main.api.model.PacienteCreateDTO;
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class PacienteImportacaoLeitor implements Closeable {
+
+    public enum Formato {
+        CSV, NDJSON;
+
+        public static Formato de(String contentType) {
+            if (StringUtils.hasText(contentType)) {
+                MediaType tipo = MediaType.parseMediaType(contentType);
+                if ("csv".equalsIgnoreCase(tipo.getSubtype())) {
+                    return CSV;
+                }
+                if ("x-ndjson".equalsIgnoreCase(tipo.getSubtype()) || "ndjson".equalsIgnoreCase(tipo.getSubtype())) {
+                    return NDJSON;
+                }
+            }
+            throw new IllegalArgumentException("Formato de importação não suportado: use text/csv ou application/x-ndjson.");
+        }
+    }
+
+    private static final Set<String> COLUNAS_LISTA = Set.of("alergias", "comorbidades", "medicamentosContinuos");
+    private static final String PREFIXO_ENDERECO = "endereco.";
+    private static final String SEPARADOR_LISTA = "\\|";
+
+    private final BufferedReader reader;
+    private final Formato formato;
+    private final ObjectMapper objectMapper;
+    private long linhaFisica;
+    private char delimitador = ',';
+    private List<String> cabecalho;
+
+    public PacienteImportacaoLeitor(BufferedReader reader, Formato formato, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.formato = formato;
+        this.objectMapper = objectMapper;
+    }
+
+    public Linha proxima() throws IOException {
+        return formato == Formato.CSV ? proximaCsv() : proximaNdjson();
+    }
+
+    private Linha proximaNdjson() throws IOException {
+        String texto;
+        while ((texto = reader.readLine()) != null) {
+            linhaFisica++;
+            if (!texto.isBlank()) {
+                try {
+                    return Linha.valida(linhaFisica, objectMapper.readValue(texto, PacienteCreateDTO.class));
+                } catch (JsonProcessingException e) {
+                    return Linha.invalida(linhaFisica, "JSON inválido: " + e.getOriginalMessage());
+                }
+            }
+        }
+        return null;
+    }
+
+    private Linha proximaCsv() throws IOException {
+        if (cabecalho == null && !lerCabecalho()) {
+            return null;
+        }
+        while (true) {
+            long inicio = linhaFisica + 1;
+            List<String> campos = lerRegistro(reader, true);
+            if (campos == null) {
+                return null;
+            }
+            if (campos.size() == 1 && campos.get(0).isBlank()) {
+                continue;
+            }
+            if (campos.size() != cabecalho.size()) {
+                return Linha.invalida(inicio, "Número de colunas (" + campos.size() + ") difere do cabeçalho (" + cabecalho.size() + ").");
+            }
+            try {
+                return Linha.valida(inicio, objectMapper.convertValue(paraMapa(campos), PacienteCreateDTO.class));
+            } catch (IllegalArgumentException e) {
+                String detalhe = e.getCause() instanceof JsonProcessingException
+                        ? ((JsonProcessingException) e.getCause()).getOriginalMessage()
+                        : e.getMessage();
+                return Linha.invalida(inicio, "Valor inválido: " + detalhe);
+            }
+        }
+    }
+
+    private boolean lerCabecalho() throws IOException {
+        String primeira = reader.readLine();
+        if (primeira == null) {
+            return false;
+        }
+        linhaFisica++;
+        if (primeira.startsWith("\uFEFF")) {
+            primeira = primeira.substring(1);
+        }
+        if (primeira.chars().filter(c -> c == ';').count() > primeira.chars().filter(c -> c == ',').count()) {
+            delimitador = ';';
+        }
+        cabecalho = new ArrayList<>();
+        for (String coluna : lerRegistro(new BufferedReader(new StringReader(primeira)), false)) {
+            cabecalho.add(coluna.trim());
+        }
+        return true;
+    }
+
+    private Map<String, Object> paraMapa(List<String> campos) {
+        Map<String, Object> paciente = new LinkedHashMap<>();
+        Map<String, Object> endereco = new LinkedHashMap<>();
+        for (int i = 0; i < cabecalho.size(); i++) {
+            String coluna = cabecalho.get(i);
+            String valor = campos.get(i).trim();
+            if (valor.isEmpty()) {
+                continue;
+            }
+            if (coluna.startsWith(PREFIXO_ENDERECO)) {
+                endereco.put(coluna.substring(PREFIXO_ENDERECO.length()), valor);
+            } else if (COLUNAS_LISTA.contains(coluna)) {
+                List<Map<String, String>> itens = new ArrayList<>();
+                for (String descricao : valor.split(SEPARADOR_LISTA)) {
+                    if (!descricao.isBlank()) {
+                        itens.add(Map.of("descricao", descricao.trim()));
+                    }
+                }
+                paciente.put(coluna, itens);
+            } else {
+                paciente.put(coluna, valor);
+            }
+        }
+        if (!endereco.isEmpty()) {
+            paciente.put("endereco", endereco);
+        }
+        return paciente;
+    }
+
+    private List<String> lerRegistro(BufferedReader origem, boolean contarLinhas) throws IOException {
+        List<String> campos = new ArrayList<>();
+        StringBuilder atual = new StringBuilder();
+        boolean entreAspas = false;
+        boolean leuAlgo = false;
+        int c;
+        while ((c = origem.read()) != -1) {
+            leuAlgo = true;
+            char ch = (char) c;
+            if (entreAspas) {
+                if (ch == '"') {
+                    origem.mark(1);
+                    int proximo = origem.read();
+                    if (proximo == '"') {
+                        atual.append('"');
+                    } else {
+                        entreAspas = false;
+                        if (proximo != -1) {
+                            origem.reset();
+                        }
+                    }
+                } else {
+                    if (ch == '\n' && contarLinhas) {
+                        linhaFisica++;
+                    }
+                    atual.append(ch);
+                }
+            } else if (ch == '"') {
+                entreAspas = true;
+            } else if (ch == delimitador) {
+                campos.add(atual.toString());
+                atual.setLength(0);
+            } else if (ch == '\n') {
+                if (contarLinhas) {
+                    linhaFisica++;
+                }
+                campos.add(atual.toString());
+                return campos;
+            } else if (ch != '\r') {
+                atual.append(ch);
+            }
+        }
+        if (!leuAlgo) {
+            return null;
+        }
+        if (contarLinhas) {
+            linhaFisica++;
+        }
+        campos.add(atual.toString());
+        return campos;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    public static final class Linha {
+        private final long numero;
+        private final PacienteCreateDTO paciente;
+        private final String erro;
+
+        private Linha(long numero, PacienteCreateDTO paciente, String erro) {
+            this.numero = numero;
+            this.paciente = paciente;
+            this.erro = erro;
+        }
+
+        static Linha valida(long numero, PacienteCreateDTO paciente) {
+            return new Linha(numero, paciente, null);
+        }
+
+        static Linha invalida(long numero, String erro) {
+            return new Linha(numero, null, erro);
+        }
+
+        public long getNumero() { return numero; }
+        public PacienteCreateDTO getPaciente() { return paciente; }
+        public String getErro() { return erro; }
+    }
+}
@@ -0,0 +1,359 @@
+package com.main.domain.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.main.api.exception.ResourceNotFoundException;
+import com.main.api.exception.ServicoIndisponivelException;
+import com.main.api.model.ImportacaoPacientesDTO;
+import com.main.api.model.PacienteCreateDTO;
+import com.main.domain.entity.PacienteEntity;
+import com.main.domain.repository.ContatoRepository;
+import com.main.domain.repository.PacienteRepository;
+import com.main.util.ContagemTotalCache;
+import com.main.util.CpfUtil;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@Service
+public class PacienteImportacaoService implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(PacienteImportacaoService.class);
+    private static final int MAXIMO_ERROS_REPORTADOS = 1000;
+    private static final String MENSAGEM_SOBRECARGA = "Há muitas importações em andamento. Tente novamente mais tarde.";
+
+    private final PacienteRepository pacienteRepository;
+    private final ContatoRepository contatoRepository;
+    private final PacienteImportacaoGravador gravador;
+    private final PacienteNomeIndice pacienteNomeIndice;
+    private final ContagemTotalCache contagemTotalCache;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final int tamanhoLote;
+    private final long tamanhoMaximoBytes;
+    private final ThreadPoolExecutor executor;
+    private final Cache<String, Job> jobs;
+
+    public PacienteImportacaoService(PacienteRepository pacienteRepository,
+                                     ContatoRepository contatoRepository,
+                                     PacienteImportacaoGravador gravador,
+                                     PacienteNomeIndice pacienteNomeIndice,
+                                     ContagemTotalCache contagemTotalCache,
+                                     Validator validator,
+                                     ObjectMapper objectMapper,
+                                     @Value("${app.importacao.tamanho-lote:500}") int tamanhoLote,
+                                     @Value("${app.importacao.tamanho-maximo-mb:100}") long tamanhoMaximoMb,
+                                     @Value("${app.importacao.threads:1}") int threads,
+                                     @Value("${app.importacao.fila:4}") int capacidadeFila,
+                                     @Value("${app.importacao.retencao-horas:24}") long retencaoHoras) {
+        this.pacienteRepository = pacienteRepository;
+        this.contatoRepository = contatoRepository;
+        this.gravador = gravador;
+        this.pacienteNomeIndice = pacienteNomeIndice;
+        this.contagemTotalCache = contagemTotalCache;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.tamanhoLote = tamanhoLote;
+        this.tamanhoMaximoBytes = tamanhoMaximoMb * 1024 * 1024;
+
+        AtomicInteger sequencia = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacidadeFila),
+                r -> {
+                    Thread thread = new Thread(r, "importacao-pacientes-" + sequencia.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.jobs = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofHours(retencaoHoras))
+                .build();
+    }
+
+    public ImportacaoPacientesDTO iniciar(InputStream corpo, String contentType) {
+        PacienteImportacaoLeitor.Formato formato = PacienteImportacaoLeitor.Formato.de(contentType);
+        Charset charset = MediaType.parseMediaType(contentType).getCharset();
+        if (executor.getQueue().remainingCapacity() == 0) {
+            throw new ServicoIndisponivelException(MENSAGEM_SOBRECARGA);
+        }
+
+        Path arquivo = gravarEmDisco(corpo);
+        Job job = new Job(UUID.randomUUID().toString(), formato);
+        jobs.put(job.id, job);
+        try {
+            executor.execute(() -> processar(job, arquivo, charset != null ? charset : StandardCharsets.UTF_8));
+        } catch (RejectedExecutionException e) {
+            jobs.invalidate(job.id);
+            apagar(arquivo);
+            throw new ServicoIndisponivelException(MENSAGEM_SOBRECARGA);
+        }
+        logger.info("SERVICE: Importação de pacientes {} ({}) enfileirada.", job.id, formato);
+        return job.paraDTO();
+    }
+
+    public ImportacaoPacientesDTO buscar(String jobId) {
+        Job job = jobs.getIfPresent(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("Importação não encontrada com ID: " + jobId);
+        }
+        return job.paraDTO();
+    }
+
+    private Path gravarEmDisco(InputStream corpo) {
+        Path arquivo = null;
+        try {
+            arquivo = Files.createTempFile("pacientes-import-", ".tmp");
+            long total = 0;
+            byte[] buffer = new byte[64 * 1024];
+            try (OutputStream saida = Files.newOutputStream(arquivo)) {
+                int lidos;
+                while ((lidos = corpo.read(buffer)) != -1) {
+                    total += lidos;
+                    if (total > tamanhoMaximoBytes) {
+                        throw new IllegalArgumentException("Arquivo de importação excede o limite de "
+                                + (tamanhoMaximoBytes / (1024 * 1024)) + " MB.");
+                    }
+                    saida.write(buffer, 0, lidos);
+                }
+            }
+            return arquivo;
+        } catch (IOException e) {
+            apagar(arquivo);
+            throw new UncheckedIOException("Falha ao receber o arquivo de importação.", e);
+        } catch (RuntimeException e) {
+            apagar(arquivo);
+            throw e;
+        }
+    }
+
+    private void processar(Job job, Path arquivo, Charset charset) {
+        job.status = StatusJob.PROCESSANDO;
+        Set<String> cpfsVistos = new HashSet<>();
+        Set<String> emailsVistos = new HashSet<>();
+        Set<String> cartoesVistos = new HashSet<>();
+        try (BufferedReader reader = Files.newBufferedReader(arquivo, charset);
+             PacienteImportacaoLeitor leitor = new PacienteImportacaoLeitor(reader, job.formato, objectMapper)) {
+            List<PacienteImportacaoLeitor.Linha> lote = new ArrayList<>(tamanhoLote);
+            PacienteImportacaoLeitor.Linha linha;
+            while ((linha = leitor.proxima()) != null) {
+                lote.add(linha);
+                if (lote.size() == tamanhoLote) {
+                    processarLote(job, lote, cpfsVistos, emailsVistos, cartoesVistos);
+                    lote.clear();
+                }
+            }
+            if (!lote.isEmpty()) {
+                processarLote(job, lote, cpfsVistos, emailsVistos, cartoesVistos);
+            }
+            job.concluir(StatusJob.CONCLUIDO, null);
+            logger.info("SERVICE: Importação {} concluída: {} importados, {} rejeitados.",
+                    job.id, job.importados.get(), job.rejeitados.get());
+        } catch (IOException | RuntimeException e) {
+            logger.error("SERVICE: Importação {} interrompida na linha {}.", job.id, job.linhasProcessadas.get(), e);
+            job.concluir(StatusJob.FALHOU, "Importação interrompida: " + e.getMessage());
+        } finally {
+            apagar(arquivo);
+        }
+    }
+
+    private void processarLote(Job job, List<PacienteImportacaoLeitor.Linha> lote,
+                               Set<String> cpfsVistos, Set<String> emailsVistos, Set<String> cartoesVistos) {
+        List<PacienteImportacaoLeitor.Linha> candidatas = new ArrayList<>(lote.size());
+        for (PacienteImportacaoLeitor.Linha linha : lote) {
+            if (linha.getErro() != null) {
+                job.rejeitar(linha.getNumero(), null, linha.getErro());
+                continue;
+            }
+            PacienteCreateDTO paciente = linha.getPaciente();
+            String erro = validar(paciente);
+            if (erro != null) {
+                job.rejeitar(linha.getNumero(), paciente.getCpf(), erro);
+                continue;
+            }
+            paciente.setCpf(CpfUtil.normalizar(paciente.getCpf()));
+            paciente.setEmail(paciente.getEmail().trim().toLowerCase());
+            if (!cpfsVistos.add(paciente.getCpf())) {
+                job.rejeitar(linha.getNumero(), paciente.getCpf(), "CPF repetido no arquivo.");
+            } else if (!emailsVistos.add(paciente.getEmail())) {
+                job.rejeitar(linha.getNumero(), paciente.getCpf(), "Email repetido no arquivo.");
+            } else if (StringUtils.hasText(paciente.getCartaoSus()) && !cartoesVistos.add(paciente.getCartaoSus())) {
+                job.rejeitar(linha.getNumero(), paciente.getCpf(), "Cartão SUS repetido no arquivo.");
+            } else {
+                candidatas.add(linha);
+            }
+        }
+
+        if (!candidatas.isEmpty()) {
+            gravarLote(job, semDuplicadosNoBanco(job, candidatas));
+        }
+        job.linhasProcessadas.addAndGet(lote.size());
+    }
+
+    private List<PacienteImportacaoLeitor.Linha> semDuplicadosNoBanco(Job job, List<PacienteImportacaoLeitor.Linha> candidatas) {
+        Set<String> cpfs = candidatas.stream().map(l -> l.getPaciente().getCpf()).collect(Collectors.toSet());
+        Set<String> emails = candidatas.stream().map(l -> l.getPaciente().getEmail()).collect(Collectors.toSet());
+        Set<String> cartoes = candidatas.stream().map(l -> l.getPaciente().getCartaoSus())
+                .filter(StringUtils::hasText).collect(Collectors.toSet());
+
+        Set<String> cpfsExistentes = new HashSet<>(pacienteRepository.findCpfDigitosExistentes(cpfs));
+        Set<String> emailsExistentes = new HashSet<>(contatoRepository.findEmailsExistentes(emails));
+        Set<String> cartoesExistentes = cartoes.isEmpty()
+                ? Set.of()
+                : new HashSet<>(pacienteRepository.findCartoesSusExistentes(cartoes));
+
+        List<PacienteImportacaoLeitor.Linha> novas = new ArrayList<>(candidatas.size());
+        for (PacienteImportacaoLeitor.Linha linha : candidatas) {
+            PacienteCreateDTO paciente = linha.getPaciente();
+            if (cpfsExistentes.contains(paciente.getCpf())) {
+                job.rejeitar(linha.getNumero(), paciente.getCpf(), "CPF " + paciente.getCpf() + " já cadastrado.");
+            } else if (emailsExistentes.contains(paciente.getEmail())) {
+                job.rejeitar(linha.getNumero(), paciente.getCpf(), "Email " + paciente.getEmail() + " já cadastrado.");
+            } else if (StringUtils.hasText(paciente.getCartaoSus()) && cartoesExistentes.contains(paciente.getCartaoSus())) {
+                job.rejeitar(linha.getNumero(), paciente.getCpf(), "Cartão SUS " + paciente.getCartaoSus() + " já cadastrado.");
+            } else {
+                novas.add(linha);
+            }
+        }
+        return novas;
+    }
+
+    private void gravarLote(Job job, List<PacienteImportacaoLeitor.Linha> linhas) {
+        if (linhas.isEmpty()) {
+            return;
+        }
+        try {
+            registrarGravados(job, gravador.gravar(linhas.stream().map(PacienteImportacaoLeitor.Linha::getPaciente)
+                    .collect(Collectors.toList())));
+        } catch (DataAccessException e) {
+            logger.warn("SERVICE: Lote da importação {} falhou ({}); gravando linha a linha.", job.id, e.getMessage());
+            for (PacienteImportacaoLeitor.Linha linha : linhas) {
+                try {
+                    registrarGravados(job, gravador.gravar(List.of(linha.getPaciente())));
+                } catch (DataAccessException erroLinha) {
+                    job.rejeitar(linha.getNumero(), linha.getPaciente().getCpf(),
+                            "Não foi possível gravar: registro duplicado ou inválido.");
+                }
+            }
+        }
+    }
+
+    private void registrarGravados(Job job, List<PacienteEntity> gravados) {
+        for (PacienteEntity paciente : gravados) {
+            pacienteNomeIndice.atualizarAposCommit(paciente.getId(), paciente.getNome());
+        }
+        contagemTotalCache.invalidar(ContagemTotalCache.PACIENTES);
+        job.importados.addAndGet(gravados.size());
+    }
+
+    private String validar(PacienteCreateDTO paciente) {
+        Set<ConstraintViolation<PacienteCreateDTO>> violacoes = validator.validate(paciente);
+        if (violacoes.isEmpty()) {
+            return null;
+        }
+        return violacoes.stream()
+                .sorted(Comparator.comparing(v -> v.getPropertyPath().toString()))
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .collect(Collectors.joining("; "));
+    }
+
+    private static void apagar(Path arquivo) {
+        if (arquivo == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(arquivo);
+        } catch (IOException e) {
+            logger.warn("SERVICE: Não foi possível apagar o arquivo temporário {}.", arquivo);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private enum StatusJob { PENDENTE, PROCESSANDO, CONCLUIDO, FALHOU }
+
+    private static final class Job {
+        private final String id;
+        private final PacienteImportacaoLeitor.Formato formato;
+        private final LocalDateTime iniciadoEm = LocalDateTime.now();
+        private final AtomicLong linhasProcessadas = new AtomicLong();
+        private final AtomicLong importados = new AtomicLong();
+        private final AtomicLong rejeitados = new AtomicLong();
+        private final List<ImportacaoPacientesDTO.ErroLinhaDTO> erros = new ArrayList<>();
+        private volatile StatusJob status = StatusJob.PENDENTE;
+        private volatile LocalDateTime concluidoEm;
+        private volatile String mensagem;
+
+        private Job(String id, PacienteImportacaoLeitor.Formato formato) {
+            this.id = id;
+            this.formato = formato;
+        }
+
+        private void rejeitar(long linha, String cpf, String motivo) {
+            rejeitados.incrementAndGet();
+            synchronized (erros) {
+                if (erros.size() < MAXIMO_ERROS_REPORTADOS) {
+                    erros.add(new ImportacaoPacientesDTO.ErroLinhaDTO(linha, cpf, motivo));
+                }
+            }
+        }
+
+        private void concluir(StatusJob statusFinal, String mensagemFinal) {
+            mensagem = mensagemFinal;
+            concluidoEm = LocalDateTime.now();
+            status = statusFinal;
+        }
+
+        private ImportacaoPacientesDTO paraDTO() {
+            ImportacaoPacientesDTO dto = new ImportacaoPacientesDTO();
+            dto.setId(id);
+            dto.setStatus(status.name());
+            dto.setFormato(formato.name());
+            dto.setLinhasProcessadas(linhasProcessadas.get());
+            dto.setImportados(importados.get());
+            dto.setRejeitados(rejeitados.get());
+            dto.setIniciadoEm(iniciadoEm);
+            dto.setConcluidoEm(concluidoEm);
+            dto.setMensagem(mensagem);
+            synchronized (erros) {
+                dto.setErros(new ArrayList<>(erros));
+            }
+            return dto;
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.main.domain.service;
+
+import com.main.domain.repository.PacienteRepository;
+import com.main.util.BuscaTextoUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+@Component
+public class PacienteNomeIndice {
+
+    private static final Logger logger = LoggerFactory.getLogger(PacienteNomeIndice.class);
+
+    private static final int TAMANHO_LOTE_RECONSTRUCAO = 10_000;
+    private static final int TAMANHO_MINIMO_TERMO = 3;
+
+    @Autowired
+    private PacienteRepository pacienteRepository;
+
+    private volatile Estado estado = new Estado();
+    private volatile boolean pronto;
+    private volatile boolean reconstruindo;
+    private final ConcurrentLinkedQueue<Alteracao> alteracoesDuranteReconstrucao = new ConcurrentLinkedQueue<>();
+
+    public boolean isPronto() {
+        return pronto;
+    }
+
+    public List<Long> buscar(String termo) {
+        if (!pronto || termo == null) {
+            return null;
+        }
+        String termoDobrado = BuscaTextoUtil.dobrarAcentos(termo);
+        String[] palavras = termoDobrado.split(" ");
+        if (termoDobrado.isEmpty() || Arrays.stream(palavras).anyMatch(palavra -> palavra.length() < TAMANHO_MINIMO_TERMO)) {
+            return null;
+        }
+        Estado atual = estado;
+
+        Set<Long> candidatos = null;
+        for (String trigrama : trigramasConsulta(palavras)) {
+            Set<Long> lista = atual.postings.get(trigrama);
+            if (lista == null) {
+                return List.of();
+            }
+            if (candidatos == null) {
+                candidatos = new LinkedHashSet<>(lista);
+            } else {
+                candidatos.retainAll(lista);
+            }
+            if (candidatos.isEmpty()) {
+                return List.of();
+            }
+        }
+        if (candidatos == null) {
+            return List.of();
+        }
+
+        List<Resultado> resultados = new ArrayList<>();
+        for (Long id : candidatos) {
+            String nome = atual.nomes.get(id);
+            if (nome == null) {
+                continue;
+            }
+            int pontuacao = pontuar(nome, termoDobrado, palavras);
+            if (pontuacao > 0) {
+                resultados.add(new Resultado(id, nome, pontuacao));
+            }
+        }
+        resultados.sort(Comparator.comparingInt((Resultado r) -> r.pontuacao).reversed()
+                .thenComparing(r -> r.nome)
+                .thenComparing(r -> r.id));
+        return resultados.stream().map(r -> r.id).collect(Collectors.toList());
+    }
+
+    public void atualizarAposCommit(Long id, String nome) {
+        aposCommit(new Alteracao(id, nome));
+    }
+
+    public void removerAposCommit(Long id) {
+        aposCommit(new Alteracao(id, null));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconstruirEmSegundoPlano() {
+        Thread thread = new Thread(this::reconstruir, "paciente-nome-indice");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public void reconstruir() {
+        long inicio = System.currentTimeMillis();
+        reconstruindo = true;
+        alteracoesDuranteReconstrucao.clear();
+        try {
+            Estado novo = new Estado();
+            long ultimoId = 0L;
+            List<Object[]> lote;
+            do {
+                lote = pacienteRepository.findIdENomeAposId(ultimoId, PageRequest.of(0, TAMANHO_LOTE_RECONSTRUCAO));
+                lote.parallelStream().forEach(linha -> novo.indexar((Long) linha[0], (String) linha[1]));
+                if (!lote.isEmpty()) {
+                    ultimoId = (Long) lote.get(lote.size() - 1)[0];
+                }
+            } while (lote.size() == TAMANHO_LOTE_RECONSTRUCAO);
+
+            aplicarPendentes(novo);
+            estado = novo;
+            reconstruindo = false;
+            aplicarPendentes(novo);
+            pronto = true;
+            logger.info("INDICE: Índice de nomes de pacientes reconstruído com {} registros em {} ms.",
+                    novo.nomes.size(), System.currentTimeMillis() - inicio);
+        } catch (RuntimeException e) {
+            reconstruindo = false;
+            logger.error("INDICE: Falha ao reconstruir índice de nomes de pacientes; buscas usarão o banco.", e);
+        }
+    }
+
+    private void aposCommit(Alteracao alteracao) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    aplicar(alteracao);
+                }
+            });
+        } else {
+            aplicar(alteracao);
+        }
+    }
+
+    private void aplicar(Alteracao alteracao) {
+        if (reconstruindo) {
+            alteracoesDuranteReconstrucao.add(alteracao);
+        }
+        alteracao.aplicarEm(estado);
+    }
+
+    private void aplicarPendentes(Estado alvo) {
+        Alteracao alteracao;
+        while ((alteracao = alteracoesDuranteReconstrucao.poll()) != null) {
+            alteracao.aplicarEm(alvo);
+        }
+    }
+
+    private static Set<String> trigramasIndice(String nomeDobrado) {
+        Set<String> trigramas = new LinkedHashSet<>();
+        for (String palavra : nomeDobrado.split(" ")) {
+            if (palavra.isEmpty()) continue;
+            String comBorda = "$" + palavra + "$";
+            for (int i = 0; i + 3 <= comBorda.length(); i++) {
+                trigramas.add(comBorda.substring(i, i + 3));
+            }
+        }
+        return trigramas;
+    }
+
+    private static Set<String> trigramasConsulta(String[] palavras) {
+        Set<String> trigramas = new LinkedHashSet<>();
+        for (String palavra : palavras) {
+            for (int i = 0; i + 3 <= palavra.length(); i++) {
+                trigramas.add(palavra.substring(i, i + 3));
+            }
+        }
+        return trigramas;
+    }
+
+    private static int pontuar(String nome, String termo, String[] palavras) {
+        if (nome.equals(termo)) {
+            return 1000;
+        }
+        int pontuacao = 0;
+        String[] palavrasNome = nome.split(" ");
+        for (String palavra : palavras) {
+            if (palavra.isEmpty()) continue;
+            int melhor = 0;
+            for (String palavraNome : palavrasNome) {
+                if (palavraNome.equals(palavra)) {
+                    melhor = Math.max(melhor, 30);
+                } else if (palavraNome.startsWith(palavra)) {
+                    melhor = Math.max(melhor, 20);
+                } else if (palavraNome.contains(palavra)) {
+                    melhor = Math.max(melhor, 10);
+                }
+            }
+            if (melhor == 0) {
+                return 0;
+            }
+            pontuacao += melhor;
+        }
+        if (nome.startsWith(termo)) {
+            pontuacao += 50;
+        } else if (nome.contains(termo)) {
+            pontuacao += 25;
+        }
+        return pontuacao;
+    }
+
+    private static final class Estado {
+        private final Map<Long, String> nomes = new ConcurrentHashMap<>();
+        private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+        void indexar(Long id, String nome) {
+            String dobrado = BuscaTextoUtil.dobrarAcentos(nome);
+            String anterior = nomes.put(id, dobrado);
+            if (anterior != null) {
+                if (anterior.equals(dobrado)) {
+                    return;
+                }
+                Set<String> antigos = trigramasIndice(anterior);
+                antigos.removeAll(trigramasIndice(dobrado));
+                antigos.forEach(t -> desindexar(t, id));
+            }
+            for (String trigrama : trigramasIndice(dobrado)) {
+                postings.compute(trigrama, (t, ids) -> {
+                    Set<Long> lista = ids != null ? ids : ConcurrentHashMap.<Long>newKeySet();
+                    lista.add(id);
+                    return lista;
+                });
+            }
+        }
+
+        void remover(Long id) {
+            String anterior = nomes.remove(id);
+            if (anterior != null) {
+                trigramasIndice(anterior).forEach(t -> desindexar(t, id));
+            }
+        }
+
+        private void desindexar(String trigrama, Long id) {
+            postings.computeIfPresent(trigrama, (t, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    private static final class Alteracao {
+        private final Long id;
+        private final String nome;
+
+        Alteracao(Long id, String nome) {
+            this.id = id;
+            this.nome = nome;
+        }
+
+        void aplicarEm(Estado alvo) {
+            if (nome == null) {
+                alvo.remover(id);
+            } else {
+                alvo.indexar(id, nome);
+            }
+        }
+    }
+
+    private static final class Resultado {
+        private final Long id;
+        private final String nome;
+        private final int pontuacao;
+
+        Resultado(Long id, String nome, int pontuacao) {
+            this.id = id;
+            this.nome = nome;
+            this.pontuacao = pontuacao;
+        }
+    }
+}
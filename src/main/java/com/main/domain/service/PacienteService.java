@@ -6,28 +6,46 @@ import com.main.api.exception.ResourceNotFoundException;
 import com.main.api.exception.CpfAlreadyExistsException;
 import com.main.api.exception.EmailAlreadyExistsException;
 import com.main.mapper.PacienteMapper;
+import com.main.api.model.CursorListagem;
+import com.main.api.model.CursorPageDTO;
 import com.main.api.model.PacienteCreateDTO;
 import com.main.api.model.PacienteDTO;
 import com.main.api.model.PacienteUpdateDTO;
 import com.main.domain.repository.PacienteRepository;
+import com.main.domain.repository.PaginacaoCursor;
 import com.main.domain.repository.ContatoRepository;
 import com.main.domain.repository.AlergiaRepository;
 import com.main.domain.repository.ComorbidadeRepository;
 import com.main.domain.repository.MedicamentoContinuoRepository;
+import com.main.domain.repository.ProntuarioRepository;
+import com.main.util.BuscaTextoUtil;
+import com.main.util.ContagemTotalCache;
+import com.main.util.CpfUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class PacienteService {
 
     private static final Logger logger = LoggerFactory.getLogger(PacienteService.class);
+    private static final List<String> ORDENACOES_CURSOR = List.of("nome");
 
     @Autowired
     private PacienteRepository pacienteRepository;
@@ -45,10 +63,20 @@ public class PacienteService {
     @Autowired
     private PacienteMapper pacienteMapper;
 
+    @Autowired
+    private ContagemTotalCache contagemTotalCache;
+
+    @Autowired
+    private ProntuarioRepository prontuarioRepository;
+
+    @Autowired
+    private PacienteNomeIndice pacienteNomeIndice;
+
     @Transactional
     public PacienteDTO criarPaciente(PacienteCreateDTO pacienteCreateDTO) {
+        pacienteCreateDTO.setCpf(CpfUtil.normalizar(pacienteCreateDTO.getCpf()));
         logger.info("SERVICE: Tentando criar paciente com CPF: {}", pacienteCreateDTO.getCpf());
-        pacienteRepository.findByCpf(pacienteCreateDTO.getCpf()).ifPresent(p -> {
+        pacienteRepository.findFirstByCpfDigitos(pacienteCreateDTO.getCpf()).ifPresent(p -> {
             throw new CpfAlreadyExistsException("CPF " + pacienteCreateDTO.getCpf() + " já cadastrado.");
         });
 
@@ -71,6 +99,8 @@ public class PacienteService {
         }
 
         PacienteEntity pacienteSalvo = pacienteRepository.save(pacienteEntity);
+        contagemTotalCache.invalidarAposCommit(ContagemTotalCache.PACIENTES);
+        pacienteNomeIndice.atualizarAposCommit(pacienteSalvo.getId(), pacienteSalvo.getNome());
         logger.info("SERVICE: Paciente criado com ID: {}", pacienteSalvo.getId());
         return pacienteMapper.toDTO(pacienteSalvo);
     }
@@ -80,15 +110,99 @@ public class PacienteService {
         logger.info("SERVICE: Buscando pacientes. Filtros: nome='{}', cpf='{}'", nome, cpf);
         Page<PacienteEntity> pacientesPage;
         if (StringUtils.hasText(cpf)) {
-            pacientesPage = pacienteRepository.findByCpfStartingWith(cpf, pageable);
+            String prefixo = prefixoCpf(cpf);
+            pacientesPage = prefixo.length() > CpfUtil.TAMANHO_CPF
+                    ? Page.empty(pageable)
+                    : pacienteRepository.findByCpfDigitosBetween(CpfUtil.inicioFaixa(prefixo), CpfUtil.fimFaixa(prefixo), pageable);
         } else if (StringUtils.hasText(nome)) {
-            pacientesPage = pacienteRepository.findByNomeContainingIgnoreCase(nome, pageable);
+            List<Long> ranqueados = pacienteNomeIndice.buscar(nome);
+            pacientesPage = ranqueados != null
+                    ? new PageImpl<>(carregarNaOrdem(paginaDeIds(ranqueados, pageable)), pageable, ranqueados.size())
+                    : pacienteRepository.findByNomeContainingIgnoreCase(nome, pageable);
         } else {
-            pacientesPage = pacienteRepository.findAll(pageable);
+            pacientesPage = contagemTotalCache.paginar(ContagemTotalCache.PACIENTES,
+                    pacienteRepository.findSliceBy(pageable), pacienteRepository::count);
         }
         return pacienteMapper.toDTOPage(pacientesPage);
     }
 
+    @Transactional(readOnly = true)
+    public Slice<PacienteDTO> buscarTodosPacientesSlice(Pageable pageable, String nome, String cpf) {
+        logger.info("SERVICE: Buscando pacientes (slice). Filtros: nome='{}', cpf='{}'", nome, cpf);
+        Slice<PacienteEntity> pacientesSlice;
+        if (StringUtils.hasText(cpf)) {
+            String prefixo = prefixoCpf(cpf);
+            pacientesSlice = prefixo.length() > CpfUtil.TAMANHO_CPF
+                    ? new SliceImpl<>(List.of(), pageable, false)
+                    : pacienteRepository.findSliceByCpfDigitosBetween(CpfUtil.inicioFaixa(prefixo), CpfUtil.fimFaixa(prefixo), pageable);
+        } else if (StringUtils.hasText(nome)) {
+            List<Long> ranqueados = pacienteNomeIndice.buscar(nome);
+            if (ranqueados != null) {
+                List<Long> ids = paginaDeIds(ranqueados, pageable);
+                boolean temMais = pageable.isPaged() && pageable.getOffset() + ids.size() < ranqueados.size();
+                pacientesSlice = new SliceImpl<>(carregarNaOrdem(ids), pageable, temMais);
+            } else {
+                pacientesSlice = pacienteRepository.findSliceByNomeContainingIgnoreCase(nome, pageable);
+            }
+        } else {
+            pacientesSlice = pacienteRepository.findSliceBy(pageable);
+        }
+        return pacientesSlice.map(pacienteMapper::toDTO);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDTO<PacienteDTO> buscarPacientesCursor(String nome, String cpf, String campo, Sort.Direction direcao,
+                                                            String cursor, int tamanho) {
+        logger.info("SERVICE: Buscando pacientes (cursor). Filtros: nome='{}', cpf='{}'", nome, cpf);
+        Sort.Order ordem = PaginacaoCursor.ordem(campo, direcao, ORDENACOES_CURSOR);
+        int limite = PaginacaoCursor.validarTamanho(tamanho);
+        CursorListagem posicao = CursorListagem.decodificar(cursor, ordem);
+
+        Specification<PacienteEntity> filtro = Specification.where(null);
+        if (StringUtils.hasText(cpf)) {
+            String prefixo = prefixoCpf(cpf);
+            if (prefixo.length() > CpfUtil.TAMANHO_CPF) {
+                return new CursorPageDTO<>(List.of(), null, false);
+            }
+            filtro = filtro.and((root, query, cb) -> cb.between(root.get("cpfDigitos"), CpfUtil.inicioFaixa(prefixo), CpfUtil.fimFaixa(prefixo)));
+        } else if (StringUtils.hasText(nome)) {
+            String termoLike = "%" + nome.toLowerCase() + "%";
+            filtro = filtro.and((root, query, cb) -> cb.like(cb.lower(root.get("nome")), termoLike));
+        }
+        if (posicao != null) {
+            filtro = filtro.and(PaginacaoCursor.apos(posicao, posicao.getValor()));
+        }
+        List<PacienteEntity> linhas = pacienteRepository.findBy(filtro,
+                consulta -> consulta.sortBy(PaginacaoCursor.ordenacao(ordem)).limit(limite + 1).all());
+        return PaginacaoCursor.pagina(linhas, limite, ordem, PacienteEntity::getNome, PacienteEntity::getId, pacienteMapper::toDTO);
+    }
+
+    private String prefixoCpf(String cpf) {
+        String prefixo = CpfUtil.normalizar(cpf);
+        if (prefixo == null) {
+            throw new IllegalArgumentException("Filtro de CPF deve conter ao menos um dígito.");
+        }
+        return prefixo;
+    }
+
+    private List<Long> paginaDeIds(List<Long> ranqueados, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return ranqueados;
+        }
+        int inicio = (int) Math.min(pageable.getOffset(), ranqueados.size());
+        int fim = Math.min(inicio + pageable.getPageSize(), ranqueados.size());
+        return ranqueados.subList(inicio, fim);
+    }
+
+    private List<PacienteEntity> carregarNaOrdem(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, PacienteEntity> porId = pacienteRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(PacienteEntity::getId, Function.identity()));
+        return ids.stream().map(porId::get).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
     @Transactional(readOnly = true)
     public PacienteDTO buscarPacientePorId(Long id) {
         logger.info("SERVICE: Buscando paciente com ID: {}", id);
@@ -115,9 +229,15 @@ public class PacienteService {
             }
         }
 
+        String nomeAnterior = pacienteEntity.getNome();
         pacienteMapper.updateEntityFromDTO(pacienteUpdateDTO, pacienteEntity);
 
         PacienteEntity pacienteAtualizado = pacienteRepository.save(pacienteEntity);
+        if (!Objects.equals(nomeAnterior, pacienteAtualizado.getNome())) {
+            prontuarioRepository.atualizarBuscaTextoDoPaciente(pacienteAtualizado.getId(),
+                    BuscaTextoUtil.textoPaciente(pacienteAtualizado.getNome(), pacienteAtualizado.getCpf()));
+            pacienteNomeIndice.atualizarAposCommit(pacienteAtualizado.getId(), pacienteAtualizado.getNome());
+        }
         logger.info("SERVICE: Paciente atualizado com ID: {}", pacienteAtualizado.getId());
         return pacienteMapper.toDTO(pacienteAtualizado);
     }
@@ -128,6 +248,9 @@ public class PacienteService {
         PacienteEntity paciente = pacienteRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Paciente não encontrado com ID: " + id));
         pacienteRepository.delete(paciente);
+        contagemTotalCache.invalidarAposCommit(ContagemTotalCache.PACIENTES);
+        contagemTotalCache.invalidarAposCommit(ContagemTotalCache.PRONTUARIOS);
+        pacienteNomeIndice.removerAposCommit(id);
         logger.info("SERVICE: Paciente deletado com ID: {}", id);
     }
 }
\ No newline at end of file
@@ -0,0 +1,134 @@
+package com.main.domain.service;
+
+import com.main.api.exception.ResourceNotFoundException;
+import com.main.domain.entity.ProntuarioEntity;
+import com.main.util.ContagemTotalCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Component
+public class ProntuarioCriador {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProntuarioCriador.class);
+
+    private static final String SQL_INSERIR =
+            "INSERT INTO prontuarios (id, numero_prontuario, paciente_id, medico_responsavel_id, administrador_criador_id, "
+                    + "created_at, updated_at, versao, busca_texto, "
+                    + "total_consultas, total_exames, total_procedimentos, total_encaminhamentos) "
+                    + "SELECT ?, ?, pa.id, ?, ?, ?, ?, 0, "
+                    + "LOWER(CONCAT_WS(' ', ?, pa.nome, pa.cpf, REPLACE(REPLACE(pa.cpf, '.', ''), '-', ''))), 0, 0, 0, 0 "
+                    + "FROM pacientes pa WHERE pa.id = ? "
+                    + "ON DUPLICATE KEY UPDATE prontuarios.id = prontuarios.id";
+
+    private static final int[] TIPOS_INSERIR = {
+            Types.BIGINT, Types.VARCHAR, Types.BIGINT, Types.BIGINT,
+            Types.TIMESTAMP, Types.TIMESTAMP, Types.VARCHAR, Types.BIGINT
+    };
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ContagemTotalCache contagemTotalCache;
+    private final Counter conflitos;
+
+    public ProntuarioCriador(JdbcTemplate jdbcTemplate, ContagemTotalCache contagemTotalCache, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.contagemTotalCache = contagemTotalCache;
+        this.conflitos = Counter.builder("prontuario.criacao.conflitos").register(meterRegistry);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Resultado obterOuCriar(Long pacienteId, Long medicoId, Long adminId) {
+        Map<Long, Long> medicoPorPaciente = new HashMap<>();
+        medicoPorPaciente.put(pacienteId, medicoId);
+        return obterOuCriar(medicoPorPaciente, adminId).get(pacienteId);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Map<Long, Resultado> obterOuCriar(Map<Long, Long> medicoPorPaciente, Long adminId) {
+        List<Long> pacienteIds = new ArrayList<>(medicoPorPaciente.keySet());
+        Collections.sort(pacienteIds);
+
+        SharedSessionContractImplementor sessao = entityManager.unwrap(SharedSessionContractImplementor.class);
+        BeforeExecutionGenerator gerador = (BeforeExecutionGenerator) sessao.getFactory().getMappingMetamodel()
+                .getEntityDescriptor(ProntuarioEntity.class).getGenerator();
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+        Map<Long, Long> idsGerados = new HashMap<>();
+        List<Object[]> parametros = new ArrayList<>(pacienteIds.size());
+        for (Long pacienteId : pacienteIds) {
+            Long id = (Long) gerador.generate(sessao, null, null, EventType.INSERT);
+            String numeroProntuario = UUID.randomUUID().toString();
+            idsGerados.put(pacienteId, id);
+            parametros.add(new Object[]{id, numeroProntuario, medicoPorPaciente.get(pacienteId), adminId,
+                    agora, agora, numeroProntuario, pacienteId});
+        }
+        jdbcTemplate.batchUpdate(SQL_INSERIR, parametros, TIPOS_INSERIR);
+
+        Map<Long, Long> ids = new HashMap<>();
+        jdbcTemplate.query("SELECT paciente_id, id FROM prontuarios WHERE paciente_id IN ("
+                        + String.join(", ", Collections.nCopies(pacienteIds.size(), "?")) + ") FOR UPDATE",
+                rs -> {
+                    if (ids.put(rs.getLong(1), rs.getLong(2)) != null) {
+                        throw new IllegalStateException("Paciente " + rs.getLong(1) + " tem mais de um prontuário; a restrição "
+                                + ProntuarioEntity.UK_PACIENTE + " está ausente.");
+                    }
+                }, pacienteIds.toArray());
+
+        Map<Long, Resultado> resultados = new LinkedHashMap<>();
+        int criados = 0;
+        for (Long pacienteId : medicoPorPaciente.keySet()) {
+            Long id = ids.get(pacienteId);
+            if (id == null) {
+                throw new ResourceNotFoundException("Paciente não encontrado com ID: " + pacienteId);
+            }
+            boolean criado = id.equals(idsGerados.get(pacienteId));
+            if (criado) {
+                criados++;
+            } else {
+                conflitos.increment();
+                logger.info("SERVICE: Prontuário do paciente {} criado por outra transação; reutilizando.", pacienteId);
+            }
+            resultados.put(pacienteId, new Resultado(id, criado));
+        }
+        if (criados > 0) {
+            contagemTotalCache.invalidarAposCommit(ContagemTotalCache.PRONTUARIOS);
+        }
+        return resultados;
+    }
+
+    public static final class Resultado {
+        private final Long id;
+        private final boolean criado;
+
+        public Resultado(Long id, boolean criado) {
+            this.id = id;
+            this.criado = criado;
+        }
+
+        public Long getId() { return id; }
+        public boolean isCriado() { return criado; }
+    }
+}
@@ -0,0 +1,118 @@
+package com.main.domain.service;
+
+import com.main.api.exception.ResourceNotFoundException;
+import com.main.api.model.ProntuarioDTO;
+import com.main.domain.entity.ConsultaRegistroEntity;
+import com.main.domain.entity.EncaminhamentoRegistroEntity;
+import com.main.domain.entity.ExameRegistroEntity;
+import com.main.domain.entity.PacienteEntity;
+import com.main.domain.entity.ProcedimentoRegistroEntity;
+import com.main.domain.entity.ProntuarioEntity;
+import com.main.domain.repository.EncaminhamentoRegistroRepository;
+import com.main.domain.repository.EntradaMedicaRegistroRepository;
+import com.main.domain.repository.ExameRegistroRepository;
+import com.main.domain.repository.ProcedimentoRegistroRepository;
+import com.main.domain.repository.ProntuarioRepository;
+import com.main.mapper.ProntuarioMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.hibernate.Hibernate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class ProntuarioDetalhadoLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProntuarioDetalhadoLoader.class);
+
+    private final ProntuarioRepository prontuarioRepository;
+    private final EntradaMedicaRegistroRepository consultaRepository;
+    private final ExameRegistroRepository exameRepository;
+    private final ProcedimentoRegistroRepository procedimentoRepository;
+    private final EncaminhamentoRegistroRepository encaminhamentoRepository;
+    private final ProntuarioMapper prontuarioMapper;
+
+    private final Timer tempoCarga;
+    private final DistributionSummary linhasTotais;
+    private final DistributionSummary linhasConsultas;
+    private final DistributionSummary linhasExames;
+    private final DistributionSummary linhasProcedimentos;
+    private final DistributionSummary linhasEncaminhamentos;
+
+    @Autowired
+    public ProntuarioDetalhadoLoader(ProntuarioRepository prontuarioRepository,
+                                     EntradaMedicaRegistroRepository consultaRepository,
+                                     ExameRegistroRepository exameRepository,
+                                     ProcedimentoRegistroRepository procedimentoRepository,
+                                     EncaminhamentoRegistroRepository encaminhamentoRepository,
+                                     ProntuarioMapper prontuarioMapper,
+                                     MeterRegistry meterRegistry) {
+        this.prontuarioRepository = prontuarioRepository;
+        this.consultaRepository = consultaRepository;
+        this.exameRepository = exameRepository;
+        this.procedimentoRepository = procedimentoRepository;
+        this.encaminhamentoRepository = encaminhamentoRepository;
+        this.prontuarioMapper = prontuarioMapper;
+
+        this.tempoCarga = Timer.builder("prontuario.detalhado.carga")
+                .description("Tempo para carregar e mapear um prontuário detalhado")
+                .register(meterRegistry);
+        this.linhasTotais = linhas(meterRegistry, "total");
+        this.linhasConsultas = linhas(meterRegistry, "consultas");
+        this.linhasExames = linhas(meterRegistry, "exames");
+        this.linhasProcedimentos = linhas(meterRegistry, "procedimentos");
+        this.linhasEncaminhamentos = linhas(meterRegistry, "encaminhamentos");
+    }
+
+    private static DistributionSummary linhas(MeterRegistry meterRegistry, String colecao) {
+        return DistributionSummary.builder("prontuario.detalhado.linhas")
+                .description("Linhas lidas do banco por carga de prontuário detalhado")
+                .tag("colecao", colecao)
+                .register(meterRegistry);
+    }
+
+    @Transactional(readOnly = true)
+    public ProntuarioDTO carregar(Long id) {
+        long inicio = System.nanoTime();
+
+        ProntuarioEntity prontuario = prontuarioRepository.findByIdFetchingCabecalho(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Prontuário não encontrado com ID: " + id));
+
+        List<ConsultaRegistroEntity> consultas = consultaRepository.findByProntuarioIdFetchingDetalhes(id);
+        List<ExameRegistroEntity> exames = exameRepository.findByProntuarioIdFetchingDetalhes(id);
+        List<ProcedimentoRegistroEntity> procedimentos = procedimentoRepository.findByProntuarioIdFetchingDetalhes(id);
+        List<EncaminhamentoRegistroEntity> encaminhamentos = encaminhamentoRepository.findByProntuarioIdFetchingDetalhes(id);
+
+        int linhasPaciente = inicializarColecoesPaciente(prontuario.getPaciente());
+
+        ProntuarioDTO dto = prontuarioMapper.toDetailedDTO(prontuario, consultas, exames, procedimentos, encaminhamentos);
+
+        long totalLinhas = 1L + linhasPaciente + consultas.size() + exames.size() + procedimentos.size() + encaminhamentos.size();
+        linhasConsultas.record(consultas.size());
+        linhasExames.record(exames.size());
+        linhasProcedimentos.record(procedimentos.size());
+        linhasEncaminhamentos.record(encaminhamentos.size());
+        linhasTotais.record(totalLinhas);
+        long duracao = System.nanoTime() - inicio;
+        tempoCarga.record(duracao, TimeUnit.NANOSECONDS);
+
+        logger.debug("LOADER: Prontuário {} carregado com {} linhas em {} ms (consultas={}, exames={}, procedimentos={}, encaminhamentos={})",
+                id, totalLinhas, duracao / 1_000_000, consultas.size(), exames.size(), procedimentos.size(), encaminhamentos.size());
+        return dto;
+    }
+
+    private int inicializarColecoesPaciente(PacienteEntity paciente) {
+        if (paciente == null) return 0;
+        Hibernate.initialize(paciente.getAlergias());
+        Hibernate.initialize(paciente.getComorbidades());
+        Hibernate.initialize(paciente.getMedicamentosContinuos());
+        return paciente.getAlergias().size() + paciente.getComorbidades().size() + paciente.getMedicamentosContinuos().size();
+    }
+}
@@ -0,0 +1,226 @@
+package com.main.domain.service;
+
+import com.main.api.exception.ResourceNotFoundException;
+import com.main.api.model.LoteRegistrosProntuarioDTO;
+import com.main.api.model.LoteRegistrosResultadoDTO;
+import com.main.domain.entity.*;
+import com.main.domain.projection.MedicoSnapshot;
+import com.main.domain.repository.*;
+import com.main.mapper.ConsultaMapper;
+import com.main.mapper.EncaminhamentoMapper;
+import com.main.mapper.ExameMapper;
+import com.main.mapper.ProcedimentoMapper;
+import com.main.util.AdministradorPrincipal;
+import com.main.util.MedicoSnapshotCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+public class ProntuarioLoteService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProntuarioLoteService.class);
+
+    private final ProntuarioRepository prontuarioRepository;
+    private final MedicoRepository medicoRepository;
+    private final EntradaMedicaRegistroRepository consultaRepository;
+    private final ExameRegistroRepository exameRepository;
+    private final ProcedimentoRegistroRepository procedimentoRepository;
+    private final EncaminhamentoRegistroRepository encaminhamentoRepository;
+    private final ConsultaMapper consultaMapper;
+    private final ExameMapper exameMapper;
+    private final ProcedimentoMapper procedimentoMapper;
+    private final EncaminhamentoMapper encaminhamentoMapper;
+    private final ProntuarioCriador prontuarioCriador;
+    private final MedicoSnapshotCache medicoSnapshotCache;
+    private final ProntuarioResumoAtualizador prontuarioResumoAtualizador;
+    private final int tamanhoMaximo;
+
+    public ProntuarioLoteService(ProntuarioRepository prontuarioRepository,
+                                 MedicoRepository medicoRepository,
+                                 EntradaMedicaRegistroRepository consultaRepository,
+                                 ExameRegistroRepository exameRepository,
+                                 ProcedimentoRegistroRepository procedimentoRepository,
+                                 EncaminhamentoRegistroRepository encaminhamentoRepository,
+                                 ConsultaMapper consultaMapper,
+                                 ExameMapper exameMapper,
+                                 ProcedimentoMapper procedimentoMapper,
+                                 EncaminhamentoMapper encaminhamentoMapper,
+                                 ProntuarioCriador prontuarioCriador,
+                                 MedicoSnapshotCache medicoSnapshotCache,
+                                 ProntuarioResumoAtualizador prontuarioResumoAtualizador,
+                                 @Value("${app.prontuarios.lote.tamanho-maximo:2000}") int tamanhoMaximo) {
+        this.prontuarioRepository = prontuarioRepository;
+        this.medicoRepository = medicoRepository;
+        this.consultaRepository = consultaRepository;
+        this.exameRepository = exameRepository;
+        this.procedimentoRepository = procedimentoRepository;
+        this.encaminhamentoRepository = encaminhamentoRepository;
+        this.consultaMapper = consultaMapper;
+        this.exameMapper = exameMapper;
+        this.procedimentoMapper = procedimentoMapper;
+        this.encaminhamentoMapper = encaminhamentoMapper;
+        this.prontuarioCriador = prontuarioCriador;
+        this.medicoSnapshotCache = medicoSnapshotCache;
+        this.prontuarioResumoAtualizador = prontuarioResumoAtualizador;
+        this.tamanhoMaximo = tamanhoMaximo;
+    }
+
+    @Transactional
+    public LoteRegistrosResultadoDTO adicionarRegistros(LoteRegistrosProntuarioDTO lote, AdministradorPrincipal adminLogado) {
+        int total = lote.totalRegistros();
+        if (total == 0) {
+            throw new IllegalArgumentException("O lote não contém registros.");
+        }
+        if (total > tamanhoMaximo) {
+            throw new IllegalArgumentException("O lote excede o limite de " + tamanhoMaximo + " registros.");
+        }
+        logger.info("SERVICE: Gravando lote de {} registros de prontuário.", total);
+
+        Long adminId = adminLogado != null ? adminLogado.getId() : null;
+        Map<Long, MedicoEntity> medicos = new HashMap<>();
+        Map<Long, Long> medicoReferencia = medicoReferenciaPorPaciente(lote, medicos);
+        Map<Long, ProntuarioEntity> prontuarios = new HashMap<>();
+        int criados = carregarProntuarios(medicoReferencia, adminId, prontuarios);
+        LocalDateTime agora = LocalDateTime.now();
+
+        List<ConsultaRegistroEntity> consultas = new ArrayList<>(lote.getConsultas().size());
+        for (LoteRegistrosProntuarioDTO.ConsultaLoteDTO item : lote.getConsultas()) {
+            MedicoEntity medico = medicoAtivo(medicos, item.getMedicoExecutorId(), "Médico executor da consulta");
+            ConsultaRegistroEntity consulta = consultaMapper.toEntity(item.getRegistro());
+            consulta.setProntuario(prontuarios.get(item.getPacienteId()));
+            consulta.setResponsavelMedico(medico);
+            if (consulta.getDataConsulta() == null) {
+                consulta.setDataConsulta(agora);
+            }
+            if (consulta.getSinaisVitais() != null) {
+                consulta.getSinaisVitais().setConsulta(consulta);
+            }
+            consultas.add(consulta);
+        }
+
+        List<ExameRegistroEntity> exames = new ArrayList<>(lote.getExames().size());
+        for (LoteRegistrosProntuarioDTO.ExameLoteDTO item : lote.getExames()) {
+            MedicoEntity medico = medicoAtivo(medicos, item.getMedicoResponsavelExameId(), "Médico responsável pelo exame");
+            ExameRegistroEntity exame = exameMapper.toEntity(item.getRegistro());
+            exame.setProntuario(prontuarios.get(item.getPacienteId()));
+            exame.setMedicoResponsavelExame(medico);
+            if (exame.getDataExame() == null) {
+                exame.setDataExame(agora);
+            }
+            exames.add(exame);
+        }
+
+        List<ProcedimentoRegistroEntity> procedimentos = new ArrayList<>(lote.getProcedimentos().size());
+        for (LoteRegistrosProntuarioDTO.ProcedimentoLoteDTO item : lote.getProcedimentos()) {
+            MedicoEntity medico = medicoAtivo(medicos, item.getRegistro().getMedicoExecutorId(), "Médico executor do procedimento");
+            ProcedimentoRegistroEntity procedimento = procedimentoMapper.toEntity(item.getRegistro());
+            procedimento.setProntuario(prontuarios.get(item.getPacienteId()));
+            procedimento.setMedicoExecutor(medico);
+            if (procedimento.getDataProcedimento() == null) {
+                procedimento.setDataProcedimento(agora);
+            }
+            procedimentos.add(procedimento);
+        }
+
+        List<EncaminhamentoRegistroEntity> encaminhamentos = new ArrayList<>(lote.getEncaminhamentos().size());
+        for (LoteRegistrosProntuarioDTO.EncaminhamentoLoteDTO item : lote.getEncaminhamentos()) {
+            MedicoEntity medico = medicoAtivo(medicos, item.getRegistro().getMedicoSolicitanteId(), "Médico solicitante do encaminhamento");
+            EncaminhamentoRegistroEntity encaminhamento = encaminhamentoMapper.toEntity(item.getRegistro());
+            encaminhamento.setProntuario(prontuarios.get(item.getPacienteId()));
+            encaminhamento.setMedicoSolicitante(medico);
+            if (encaminhamento.getDataEncaminhamento() == null) {
+                encaminhamento.setDataEncaminhamento(agora);
+            }
+            encaminhamentos.add(encaminhamento);
+        }
+
+        medicoReferencia.forEach((pacienteId, medicoId) ->
+                prontuarioResumoAtualizador.registrarResponsavel(prontuarios.get(pacienteId).getId(), medicoId, adminId));
+
+        consultaRepository.saveAll(consultas);
+        exameRepository.saveAll(exames);
+        procedimentoRepository.saveAll(procedimentos);
+        encaminhamentoRepository.saveAll(encaminhamentos);
+        consultas.forEach(consulta -> prontuarioResumoAtualizador.registrarConsulta(consulta, true));
+        exames.forEach(exame -> prontuarioResumoAtualizador.registrarExame(exame, true));
+        procedimentos.forEach(procedimento -> prontuarioResumoAtualizador.registrarProcedimento(procedimento, true));
+        encaminhamentos.forEach(encaminhamento -> prontuarioResumoAtualizador.registrarEncaminhamento(encaminhamento, true));
+
+        LoteRegistrosResultadoDTO resultado = new LoteRegistrosResultadoDTO();
+        resultado.setProntuariosCriados(criados);
+        resultado.setProntuarioIds(medicoReferencia.keySet().stream()
+                .map(pacienteId -> prontuarios.get(pacienteId).getId())
+                .collect(Collectors.toList()));
+        resultado.setConsultas(consultas.size());
+        resultado.setExames(exames.size());
+        resultado.setProcedimentos(procedimentos.size());
+        resultado.setEncaminhamentos(encaminhamentos.size());
+        return resultado;
+    }
+
+    private Map<Long, Long> medicoReferenciaPorPaciente(LoteRegistrosProntuarioDTO lote, Map<Long, MedicoEntity> medicos) {
+        Map<Long, Long> medicoReferencia = new LinkedHashMap<>();
+        for (LoteRegistrosProntuarioDTO.ConsultaLoteDTO item : lote.getConsultas()) {
+            medicoAtivo(medicos, item.getMedicoExecutorId(), "Médico executor da consulta");
+            medicoReferencia.put(item.getPacienteId(), item.getMedicoExecutorId());
+        }
+        for (LoteRegistrosProntuarioDTO.ExameLoteDTO item : lote.getExames()) {
+            medicoAtivo(medicos, item.getMedicoResponsavelExameId(), "Médico responsável pelo exame");
+            medicoReferencia.put(item.getPacienteId(), item.getMedicoResponsavelExameId());
+        }
+        for (LoteRegistrosProntuarioDTO.ProcedimentoLoteDTO item : lote.getProcedimentos()) {
+            medicoAtivo(medicos, item.getRegistro().getMedicoExecutorId(), "Médico executor do procedimento");
+            medicoReferencia.put(item.getPacienteId(), item.getRegistro().getMedicoExecutorId());
+        }
+        for (LoteRegistrosProntuarioDTO.EncaminhamentoLoteDTO item : lote.getEncaminhamentos()) {
+            medicoAtivo(medicos, item.getRegistro().getMedicoSolicitanteId(), "Médico solicitante do encaminhamento");
+            medicoReferencia.put(item.getPacienteId(), item.getRegistro().getMedicoSolicitanteId());
+        }
+        return medicoReferencia;
+    }
+
+    private int carregarProntuarios(Map<Long, Long> medicoReferencia, Long adminId, Map<Long, ProntuarioEntity> prontuarios) {
+        for (Object[] linha : prontuarioRepository.findPacienteIdEIdByPacienteIdIn(medicoReferencia.keySet())) {
+            prontuarios.put((Long) linha[0], prontuarioRepository.getReferenceById((Long) linha[1]));
+        }
+        Map<Long, Long> semProntuario = new LinkedHashMap<>(medicoReferencia);
+        semProntuario.keySet().removeAll(prontuarios.keySet());
+        if (semProntuario.isEmpty()) {
+            return 0;
+        }
+        int criados = 0;
+        for (Map.Entry<Long, ProntuarioCriador.Resultado> entrada : prontuarioCriador.obterOuCriar(semProntuario, adminId).entrySet()) {
+            if (entrada.getValue().isCriado()) {
+                criados++;
+            }
+            prontuarios.put(entrada.getKey(), prontuarioRepository.getReferenceById(entrada.getValue().getId()));
+        }
+        return criados;
+    }
+
+    private MedicoEntity medicoAtivo(Map<Long, MedicoEntity> medicos, Long medicoId, String descricao) {
+        MedicoEntity referencia = medicos.get(medicoId);
+        if (referencia != null) {
+            return referencia;
+        }
+        MedicoSnapshot medico = medicoSnapshotCache.buscar(medicoId)
+                .orElseThrow(() -> new ResourceNotFoundException(descricao + " (ID: " + medicoId + ") não encontrado."));
+        if (!medico.isAtivo()) {
+            throw new IllegalArgumentException(descricao + " (" + medico.getNomeCompleto() + ") não está ativo.");
+        }
+        referencia = medicoRepository.getReferenceById(medicoId);
+        medicos.put(medicoId, referencia);
+        return referencia;
+    }
+}
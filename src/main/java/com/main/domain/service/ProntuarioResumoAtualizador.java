@@ -0,0 +1,215 @@
+package com.main.domain.service;
+
+import com.main.domain.entity.ConsultaRegistroEntity;
+import com.main.domain.entity.EncaminhamentoRegistroEntity;
+import com.main.domain.entity.ExameRegistroEntity;
+import com.main.domain.entity.MedicoEntity;
+import com.main.domain.entity.ProcedimentoRegistroEntity;
+import com.main.domain.entity.ProntuarioEntity;
+import com.main.domain.projection.MedicoSnapshot;
+import com.main.util.MedicoSnapshotCache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class ProntuarioResumoAtualizador {
+
+    private static final String SQL_ATUALIZAR =
+            "UPDATE prontuarios SET "
+                    + "versao = versao + CASE WHEN ? IS NULL OR medico_responsavel_id = ? THEN 0 ELSE 1 END, "
+                    + "updated_at = ?, "
+                    + "total_consultas = COALESCE(total_consultas, 0) + ?, "
+                    + "total_exames = COALESCE(total_exames, 0) + ?, "
+                    + "total_procedimentos = COALESCE(total_procedimentos, 0) + ?, "
+                    + "total_encaminhamentos = COALESCE(total_encaminhamentos, 0) + ?, "
+                    + "ultima_consulta_em = GREATEST(COALESCE(ultima_consulta_em, ?), COALESCE(?, ultima_consulta_em)), "
+                    + "ultimo_exame_em = GREATEST(COALESCE(ultimo_exame_em, ?), COALESCE(?, ultimo_exame_em)), "
+                    + "ultimo_medico_id = COALESCE(?, ultimo_medico_id), "
+                    + "ultimo_medico_nome = COALESCE(?, ultimo_medico_nome), "
+                    + "medico_responsavel_id = COALESCE(?, medico_responsavel_id), "
+                    + "administrador_criador_id = COALESCE(administrador_criador_id, ?) "
+                    + "WHERE id = ?";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MedicoSnapshotCache medicoSnapshotCache;
+
+    public ProntuarioResumoAtualizador(JdbcTemplate jdbcTemplate, MedicoSnapshotCache medicoSnapshotCache) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.medicoSnapshotCache = medicoSnapshotCache;
+    }
+
+    public void registrarConsulta(ConsultaRegistroEntity consulta, boolean nova) {
+        Resumo resumo = resumo(consulta.getProntuario());
+        if (nova) {
+            resumo.consultas++;
+        }
+        resumo.ultimaConsultaEm = maisRecente(resumo.ultimaConsultaEm, consulta.getDataConsulta());
+        resumo.medico(consulta.getResponsavelMedico());
+    }
+
+    public void registrarExame(ExameRegistroEntity exame, boolean novo) {
+        Resumo resumo = resumo(exame.getProntuario());
+        if (novo) {
+            resumo.exames++;
+        }
+        resumo.ultimoExameEm = maisRecente(resumo.ultimoExameEm, exame.getDataExame());
+        resumo.medico(exame.getMedicoResponsavelExame());
+    }
+
+    public void registrarProcedimento(ProcedimentoRegistroEntity procedimento, boolean novo) {
+        Resumo resumo = resumo(procedimento.getProntuario());
+        if (novo) {
+            resumo.procedimentos++;
+        }
+        resumo.medico(procedimento.getMedicoExecutor());
+    }
+
+    public void registrarEncaminhamento(EncaminhamentoRegistroEntity encaminhamento, boolean novo) {
+        Resumo resumo = resumo(encaminhamento.getProntuario());
+        if (novo) {
+            resumo.encaminhamentos++;
+        }
+        resumo.medico(encaminhamento.getMedicoSolicitante());
+    }
+
+    public void registrarResponsavel(Long prontuarioId, Long medicoId, Long administradorId) {
+        Resumo resumo = resumo(prontuarioId);
+        resumo.medicoResponsavelId = medicoId;
+        if (administradorId != null) {
+            resumo.administradorId = administradorId;
+        }
+    }
+
+    private Resumo resumo(ProntuarioEntity prontuario) {
+        return resumo(prontuario != null ? prontuario.getId() : null);
+    }
+
+    private Resumo resumo(Long prontuarioId) {
+        if (prontuarioId == null) {
+            throw new IllegalStateException("Prontuário precisa estar persistido para atualizar o resumo.");
+        }
+        return pendentes().resumos.computeIfAbsent(prontuarioId, Resumo::new);
+    }
+
+    private Pendentes pendentes() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Atualização do resumo do prontuário exige uma transação ativa.");
+        }
+        for (TransactionSynchronization sincronizacao : TransactionSynchronizationManager.getSynchronizations()) {
+            if (sincronizacao instanceof Pendentes pendentes && pendentes.dono() == this) {
+                return pendentes;
+            }
+        }
+        Pendentes pendentes = new Pendentes();
+        TransactionSynchronizationManager.registerSynchronization(pendentes);
+        return pendentes;
+    }
+
+    private void aplicar(Map<Long, Resumo> resumos) {
+        if (resumos.isEmpty()) {
+            return;
+        }
+        entityManager.flush();
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+        List<Resumo> lista = new ArrayList<>(resumos.values());
+        jdbcTemplate.batchUpdate(SQL_ATUALIZAR, lista, lista.size(), (ps, resumo) -> {
+            definirId(ps, 1, resumo.medicoResponsavelId);
+            definirId(ps, 2, resumo.medicoResponsavelId);
+            ps.setTimestamp(3, agora);
+            ps.setInt(4, resumo.consultas);
+            ps.setInt(5, resumo.exames);
+            ps.setInt(6, resumo.procedimentos);
+            ps.setInt(7, resumo.encaminhamentos);
+            definirData(ps, 8, resumo.ultimaConsultaEm);
+            definirData(ps, 9, resumo.ultimaConsultaEm);
+            definirData(ps, 10, resumo.ultimoExameEm);
+            definirData(ps, 11, resumo.ultimoExameEm);
+            if (resumo.medicoId != null) {
+                ps.setLong(12, resumo.medicoId);
+                ps.setString(13, medicoSnapshotCache.buscar(resumo.medicoId).map(MedicoSnapshot::getNomeCompleto).orElse(null));
+            } else {
+                ps.setNull(12, Types.BIGINT);
+                ps.setNull(13, Types.VARCHAR);
+            }
+            definirId(ps, 14, resumo.medicoResponsavelId);
+            definirId(ps, 15, resumo.administradorId);
+            ps.setLong(16, resumo.prontuarioId);
+        });
+    }
+
+    private static void definirId(PreparedStatement ps, int indice, Long id) throws SQLException {
+        if (id != null) {
+            ps.setLong(indice, id);
+        } else {
+            ps.setNull(indice, Types.BIGINT);
+        }
+    }
+
+    private static void definirData(PreparedStatement ps, int indice, LocalDateTime data) throws SQLException {
+        if (data != null) {
+            ps.setTimestamp(indice, Timestamp.valueOf(data));
+        } else {
+            ps.setNull(indice, Types.TIMESTAMP);
+        }
+    }
+
+    private static LocalDateTime maisRecente(LocalDateTime atual, LocalDateTime candidata) {
+        if (atual == null) {
+            return candidata;
+        }
+        return candidata != null && candidata.isAfter(atual) ? candidata : atual;
+    }
+
+    private class Pendentes implements TransactionSynchronization {
+        private final Map<Long, Resumo> resumos = new LinkedHashMap<>();
+
+        ProntuarioResumoAtualizador dono() {
+            return ProntuarioResumoAtualizador.this;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            aplicar(resumos);
+        }
+    }
+
+    private static class Resumo {
+        private final Long prontuarioId;
+        private int consultas;
+        private int exames;
+        private int procedimentos;
+        private int encaminhamentos;
+        private LocalDateTime ultimaConsultaEm;
+        private LocalDateTime ultimoExameEm;
+        private Long medicoId;
+        private Long medicoResponsavelId;
+        private Long administradorId;
+
+        Resumo(Long prontuarioId) {
+            this.prontuarioId = prontuarioId;
+        }
+
+        void medico(MedicoEntity medico) {
+            if (medico != null) {
+                medicoId = medico.getId();
+            }
+        }
+    }
+}
@@ -2,35 +2,40 @@ package com.main.domain.service;
 
 import com.main.api.model.*;
 import com.main.domain.entity.*;
+import com.main.domain.projection.MedicoSnapshot;
+import com.main.domain.projection.ProntuarioSummary;
 import com.main.domain.repository.*;
 import com.main.api.exception.ResourceNotFoundException;
 import com.main.mapper.*;
-import jakarta.persistence.criteria.Join;
-import jakarta.persistence.criteria.JoinType;
-import jakarta.persistence.criteria.Predicate;
+import com.main.util.AdministradorPrincipal;
+import com.main.util.ContagemTotalCache;
+import com.main.util.MedicoSnapshotCache;
+import com.main.util.RetentativaOtimista;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class ProntuarioService {
 
     private static final Logger logger = LoggerFactory.getLogger(ProntuarioService.class);
+    private static final int LIMITE_PADRAO_REGISTROS = 20;
+    private static final int LIMITE_MAXIMO_REGISTROS = 100;
+    private static final List<String> ORDENACOES_CURSOR = List.of("updatedAt", "createdAt");
 
     @Autowired private ProntuarioRepository prontuarioRepository;
-    @Autowired private PacienteRepository pacienteRepository;
     @Autowired private MedicoRepository medicoRepository;
     @Autowired private EntradaMedicaRegistroRepository consultaRepository;
     @Autowired private ExameRegistroRepository exameRepository;
@@ -42,148 +47,158 @@ public class ProntuarioService {
     @Autowired private ExameMapper exameMapper;
     @Autowired private ProcedimentoMapper procedimentoMapper;
     @Autowired private EncaminhamentoMapper encaminhamentoMapper;
+    @Autowired private ProntuarioDetalhadoLoader prontuarioDetalhadoLoader;
+    @Autowired private ContagemTotalCache contagemTotalCache;
+    @Autowired private MedicoSnapshotCache medicoSnapshotCache;
+    @Autowired private ProntuarioResumoAtualizador prontuarioResumoAtualizador;
+    @Autowired private ProntuarioCriador prontuarioCriador;
+    @Autowired private RetentativaOtimista retentativaOtimista;
 
-    private void inicializarConsultaCompletamente(ConsultaRegistroEntity consulta) {
-        if (consulta != null) {
-            if (consulta.getProntuario() != null) consulta.getProntuario().getId();
-            if (consulta.getResponsavelMedico() != null) consulta.getResponsavelMedico().getId();
-            if (consulta.getSinaisVitais() != null) consulta.getSinaisVitais().getId();
-            if (consulta.getDataConsulta() != null) consulta.getDataConsulta();
-        }
-    }
-    private void inicializarExameCompletamente(ExameRegistroEntity exame) {
-        if (exame != null) {
-            if (exame.getProntuario() != null) exame.getProntuario().getId();
-            if (exame.getMedicoResponsavelExame() != null) exame.getMedicoResponsavelExame().getId();
-            if (exame.getDataExame() != null) exame.getDataExame();
-        }
-    }
-    private void inicializarProcedimentoCompletamente(ProcedimentoRegistroEntity procedimento) {
-        if (procedimento != null) {
-            if (procedimento.getProntuario() != null) procedimento.getProntuario().getId();
-            if (procedimento.getMedicoExecutor() != null) procedimento.getMedicoExecutor().getId();
-            if (procedimento.getDataProcedimento() != null) procedimento.getDataProcedimento();
-        }
-    }
-    private void inicializarEncaminhamentoCompletamente(EncaminhamentoRegistroEntity encaminhamento) {
-        if (encaminhamento != null) {
-            if (encaminhamento.getProntuario() != null) encaminhamento.getProntuario().getId();
-            if (encaminhamento.getMedicoSolicitante() != null) encaminhamento.getMedicoSolicitante().getId();
-            if (encaminhamento.getDataEncaminhamento() != null) encaminhamento.getDataEncaminhamento();
+    @Transactional(readOnly = true)
+    public Page<ProntuarioDTO> buscarTodosProntuarios(Pageable pageable, String termo, String numeroProntuarioFilter) {
+        logger.info("SERVICE: Buscando prontuários. Termo: '{}', NumProntuario: '{}'", termo, numeroProntuarioFilter);
+        Pageable pageableParaConsulta = pageable;
+        if (pageable.getSort().isUnsorted()) {
+            pageableParaConsulta = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(Sort.Direction.DESC, "updatedAt"));
         }
-    }
-    private void inicializarPacienteCompleto(PacienteEntity paciente) {
-        if (paciente != null) {
-            if (paciente.getEndereco() != null) paciente.getEndereco().getCep();
-            if (paciente.getContato() != null) paciente.getContato().getEmail();
-            if (paciente.getAlergias() != null) paciente.getAlergias().size();
-            if (paciente.getComorbidades() != null) paciente.getComorbidades().size();
-            if (paciente.getMedicamentosContinuos() != null) paciente.getMedicamentosContinuos().size();
+        Page<ProntuarioSummary> resumos;
+        if (!StringUtils.hasText(termo) && !StringUtils.hasText(numeroProntuarioFilter)) {
+            resumos = contagemTotalCache.paginar(ContagemTotalCache.PRONTUARIOS,
+                    prontuarioRepository.buscarResumosSlice(null, null, pageableParaConsulta),
+                    prontuarioRepository::count);
+        } else {
+            resumos = prontuarioRepository.buscarResumos(termo, numeroProntuarioFilter, pageableParaConsulta);
         }
+        return resumos.map(prontuarioMapper::toBasicDTO);
     }
 
     @Transactional(readOnly = true)
-    public Page<ProntuarioDTO> buscarTodosProntuarios(Pageable pageable, String termo, String numeroProntuarioFilter) {
-        logger.info("SERVICE: Buscando prontuários. Termo: '{}', NumProntuario: '{}'", termo, numeroProntuarioFilter);
-        Specification<ProntuarioEntity> spec = (root, query, cb) -> {
-            List<Predicate> predicates = new ArrayList<>();
-            root.fetch("paciente", JoinType.LEFT).fetch("contato", JoinType.LEFT);
-            root.fetch("paciente").fetch("endereco", JoinType.LEFT);
-            root.fetch("medicoResponsavel", JoinType.LEFT);
-            root.fetch("administradorCriador", JoinType.LEFT);
-
-            if (StringUtils.hasText(termo)) {
-                String termoLike = "%" + termo.toLowerCase() + "%";
-                Join<ProntuarioEntity, PacienteEntity> pacienteJoin = root.join("paciente", JoinType.LEFT);
-                predicates.add(cb.or(
-                        cb.like(cb.lower(root.get("numeroProntuario")), termoLike),
-                        cb.like(cb.lower(pacienteJoin.get("nome")), termoLike),
-                        cb.like(pacienteJoin.get("cpf"), termoLike)
-                ));
-            }
-            if (StringUtils.hasText(numeroProntuarioFilter)) {
-                predicates.add(cb.like(cb.lower(root.get("numeroProntuario")), "%" + numeroProntuarioFilter.toLowerCase() + "%"));
-            }
-            query.distinct(true);
-            return cb.and(predicates.toArray(new Predicate[0]));
-        };
+    public Slice<ProntuarioDTO> buscarTodosProntuariosSlice(Pageable pageable, String termo, String numeroProntuarioFilter) {
+        logger.info("SERVICE: Buscando prontuários (slice). Termo: '{}', NumProntuario: '{}'", termo, numeroProntuarioFilter);
         Pageable pageableParaConsulta = pageable;
         if (pageable.getSort().isUnsorted()) {
             pageableParaConsulta = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(Sort.Direction.DESC, "updatedAt"));
         }
-        Page<ProntuarioEntity> resultadoEntities = prontuarioRepository.findAll(spec, pageableParaConsulta);
-        return prontuarioMapper.toBasicDTOPage(resultadoEntities);
+        return prontuarioRepository.buscarResumosSlice(termo, numeroProntuarioFilter, pageableParaConsulta)
+                .map(prontuarioMapper::toBasicDTO);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ProntuarioDTO> buscarProntuariosCursor(String termo, String numeroProntuarioFilter, String campo,
+                                                                Sort.Direction direcao, String cursor, int tamanho) {
+        logger.info("SERVICE: Buscando prontuários (cursor). Termo: '{}', NumProntuario: '{}'", termo, numeroProntuarioFilter);
+        Sort.Order ordem = PaginacaoCursor.ordem(campo, direcao, ORDENACOES_CURSOR);
+        int limite = PaginacaoCursor.validarTamanho(tamanho);
+        CursorListagem posicao = CursorListagem.decodificar(cursor, ordem);
+        List<ProntuarioSummary> linhas = prontuarioRepository.buscarResumosAposCursor(termo, numeroProntuarioFilter, ordem, posicao, limite + 1);
+        return PaginacaoCursor.pagina(linhas, limite, ordem,
+                "createdAt".equals(ordem.getProperty()) ? ProntuarioSummary::getCreatedAt : ProntuarioSummary::getUpdatedAt,
+                ProntuarioSummary::getId, prontuarioMapper::toBasicDTO);
     }
 
     @Transactional(readOnly = true)
     public ProntuarioDTO buscarProntuarioPorIdDetalhado(Long id) {
-        ProntuarioEntity prontuario = prontuarioRepository.findByIdFetchingCollections(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Prontuário não encontrado com ID: " + id));
+        return prontuarioDetalhadoLoader.carregar(id);
+    }
 
-        if (prontuario.getConsultas() != null) prontuario.getConsultas().forEach(this::inicializarConsultaCompletamente);
-        if (prontuario.getExamesRegistrados() != null) prontuario.getExamesRegistrados().forEach(this::inicializarExameCompletamente);
-        if (prontuario.getProcedimentosRegistrados() != null) prontuario.getProcedimentosRegistrados().forEach(this::inicializarProcedimentoCompletamente);
-        if (prontuario.getEncaminhamentosRegistrados() != null) prontuario.getEncaminhamentosRegistrados().forEach(this::inicializarEncaminhamentoCompletamente);
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ConsultaDTO> listarConsultas(Long prontuarioId, String after, Integer limit) {
+        int limite = validarPaginaRegistros(prontuarioId, limit);
+        RegistroCursor cursor = RegistroCursor.parse(after);
+        Pageable sonda = PageRequest.of(0, limite + 1);
+        List<ConsultaRegistroEntity> linhas = cursor == null
+                ? consultaRepository.findMaisRecentesByProntuarioId(prontuarioId, sonda)
+                : consultaRepository.findAnterioresAoCursorByProntuarioId(prontuarioId, cursor.getData(), cursor.getId(), sonda);
+        return paginarRegistros(linhas, limite, consultaMapper::toDTO, ConsultaRegistroEntity::getDataConsulta, ConsultaRegistroEntity::getId);
+    }
 
-        if(prontuario.getPaciente() != null) inicializarPacienteCompleto(prontuario.getPaciente());
-        if(prontuario.getMedicoResponsavel() != null) prontuario.getMedicoResponsavel().getNomeCompleto();
-        if(prontuario.getAdministradorCriador() != null) prontuario.getAdministradorCriador().getNome();
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ExameRegistroDTO> listarExames(Long prontuarioId, String after, Integer limit) {
+        int limite = validarPaginaRegistros(prontuarioId, limit);
+        RegistroCursor cursor = RegistroCursor.parse(after);
+        Pageable sonda = PageRequest.of(0, limite + 1);
+        List<ExameRegistroEntity> linhas = cursor == null
+                ? exameRepository.findMaisRecentesByProntuarioId(prontuarioId, sonda)
+                : exameRepository.findAnterioresAoCursorByProntuarioId(prontuarioId, cursor.getData(), cursor.getId(), sonda);
+        return paginarRegistros(linhas, limite, exameMapper::toDTO, ExameRegistroEntity::getDataExame, ExameRegistroEntity::getId);
+    }
 
-        return prontuarioMapper.toDetailedDTO(prontuario);
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ProcedimentoRegistroDTO> listarProcedimentos(Long prontuarioId, String after, Integer limit) {
+        int limite = validarPaginaRegistros(prontuarioId, limit);
+        RegistroCursor cursor = RegistroCursor.parse(after);
+        Pageable sonda = PageRequest.of(0, limite + 1);
+        List<ProcedimentoRegistroEntity> linhas = cursor == null
+                ? procedimentoRepository.findMaisRecentesByProntuarioId(prontuarioId, sonda)
+                : procedimentoRepository.findAnterioresAoCursorByProntuarioId(prontuarioId, cursor.getData(), cursor.getId(), sonda);
+        return paginarRegistros(linhas, limite, procedimentoMapper::toDTO, ProcedimentoRegistroEntity::getDataProcedimento, ProcedimentoRegistroEntity::getId);
     }
 
-    private ProntuarioEntity findOrCreateProntuario(Long pacienteId, Long medicoIdReferencia, AdministradorEntity adminLogado) {
-        PacienteEntity paciente = pacienteRepository.findById(pacienteId)
-                .orElseThrow(() -> new ResourceNotFoundException("Paciente não encontrado com ID: " + pacienteId));
+    @Transactional(readOnly = true)
+    public CursorPageDTO<EncaminhamentoRegistroDTO> listarEncaminhamentos(Long prontuarioId, String after, Integer limit) {
+        int limite = validarPaginaRegistros(prontuarioId, limit);
+        RegistroCursor cursor = RegistroCursor.parse(after);
+        Pageable sonda = PageRequest.of(0, limite + 1);
+        List<EncaminhamentoRegistroEntity> linhas = cursor == null
+                ? encaminhamentoRepository.findMaisRecentesByProntuarioId(prontuarioId, sonda)
+                : encaminhamentoRepository.findAnterioresAoCursorByProntuarioId(prontuarioId, cursor.getData(), cursor.getId(), sonda);
+        return paginarRegistros(linhas, limite, encaminhamentoMapper::toDTO, EncaminhamentoRegistroEntity::getDataEncaminhamento, EncaminhamentoRegistroEntity::getId);
+    }
 
-        MedicoEntity medicoRef = medicoRepository.findById(medicoIdReferencia)
-                .orElseThrow(() -> new ResourceNotFoundException("Médico de referência (ID: " + medicoIdReferencia + ") não encontrado."));
-        if (medicoRef.getDeletedAt() != null) {
-            throw new IllegalArgumentException("Médico ("+ medicoRef.getNomeCompleto() +") de referência para o prontuário não está ativo.");
+    private int validarPaginaRegistros(Long prontuarioId, Integer limit) {
+        int limite = limit != null ? limit : LIMITE_PADRAO_REGISTROS;
+        if (limite < 1 || limite > LIMITE_MAXIMO_REGISTROS) {
+            throw new IllegalArgumentException("O parâmetro limit deve estar entre 1 e " + LIMITE_MAXIMO_REGISTROS + ".");
         }
+        if (!prontuarioRepository.existsById(prontuarioId)) {
+            throw new ResourceNotFoundException("Prontuário não encontrado com ID: " + prontuarioId);
+        }
+        return limite;
+    }
 
-        Optional<ProntuarioEntity> prontuarioExistenteOpt = prontuarioRepository.findByPacienteId(pacienteId);
-
-        if (prontuarioExistenteOpt.isPresent()) {
-            ProntuarioEntity prontuarioExistente = prontuarioExistenteOpt.get();
-            boolean modificado = false;
-            if (prontuarioExistente.getMedicoResponsavel() == null || !prontuarioExistente.getMedicoResponsavel().getId().equals(medicoRef.getId())) {
-                prontuarioExistente.setMedicoResponsavel(medicoRef);
-                modificado = true;
-            }
-            if (prontuarioExistente.getAdministradorCriador() == null && adminLogado != null) {
-                prontuarioExistente.setAdministradorCriador(adminLogado);
-                modificado = true;
-            }
-            if (modificado) {
-                return prontuarioRepository.save(prontuarioExistente);
-            }
-            return prontuarioExistente;
-        } else {
-            ProntuarioEntity novoProntuario = new ProntuarioEntity();
-            novoProntuario.setPaciente(paciente);
-            novoProntuario.setMedicoResponsavel(medicoRef);
-            novoProntuario.setAdministradorCriador(adminLogado);
-            return prontuarioRepository.save(novoProntuario);
+    private <E, D> CursorPageDTO<D> paginarRegistros(List<E> linhas, int limite, Function<E, D> mapper,
+                                                     Function<E, LocalDateTime> data, Function<E, Long> id) {
+        boolean temMais = linhas.size() > limite;
+        List<E> pagina = temMais ? linhas.subList(0, limite) : linhas;
+        String proximoCursor = null;
+        if (temMais) {
+            E ultimo = pagina.get(pagina.size() - 1);
+            proximoCursor = new RegistroCursor(data.apply(ultimo), id.apply(ultimo)).toString();
         }
+        List<D> itens = pagina.stream().map(mapper).collect(Collectors.toList());
+        return new CursorPageDTO<>(itens, proximoCursor, temMais);
     }
 
-    private void atualizarDataProntuario(ProntuarioEntity prontuario) {
-        prontuarioRepository.saveAndFlush(prontuario);
+    private MedicoEntity referencia(MedicoSnapshot medico) {
+        return medico != null ? medicoRepository.getReferenceById(medico.getId()) : null;
+    }
+
+    private ProntuarioEntity findOrCreateProntuario(Long pacienteId, Long medicoIdReferencia, AdministradorPrincipal adminLogado) {
+        MedicoSnapshot medicoRef = medicoSnapshotCache.buscar(medicoIdReferencia)
+                .orElseThrow(() -> new ResourceNotFoundException("Médico de referência (ID: " + medicoIdReferencia + ") não encontrado."));
+        if (!medicoRef.isAtivo()) {
+            throw new IllegalArgumentException("Médico ("+ medicoRef.getNomeCompleto() +") de referência para o prontuário não está ativo.");
+        }
+        Long adminId = adminLogado != null ? adminLogado.getId() : null;
+
+        Long prontuarioId = prontuarioRepository.findIdByPacienteId(pacienteId)
+                .orElseGet(() -> prontuarioCriador.obterOuCriar(pacienteId, medicoRef.getId(), adminId).getId());
+        prontuarioResumoAtualizador.registrarResponsavel(prontuarioId, medicoRef.getId(), adminId);
+        return prontuarioRepository.getReferenceById(prontuarioId);
     }
 
     @Transactional
-    public ConsultaDTO adicionarConsultaERetornarDTO(Long pacienteId, CriarConsultaRequestDTO dto, AdministradorEntity adminLogado, Long medicoExecutorId) {
-        MedicoEntity medicoExecutor = medicoRepository.findById(medicoExecutorId)
+    public ConsultaDTO adicionarConsultaERetornarDTO(Long pacienteId, CriarConsultaRequestDTO dto, AdministradorPrincipal adminLogado, Long medicoExecutorId) {
+        MedicoSnapshot medicoExecutor = medicoSnapshotCache.buscar(medicoExecutorId)
                 .orElseThrow(() -> new ResourceNotFoundException("Médico executor da consulta (ID: " + medicoExecutorId + ") não encontrado."));
-        if (medicoExecutor.getDeletedAt() != null) {
+        if (!medicoExecutor.isAtivo()) {
             throw new IllegalArgumentException("Médico ("+ medicoExecutor.getNomeCompleto() +") não está ativo.");
         }
         ProntuarioEntity prontuario = findOrCreateProntuario(pacienteId, medicoExecutorId, adminLogado);
 
         ConsultaRegistroEntity novaConsulta = consultaMapper.toEntity(dto);
         novaConsulta.setProntuario(prontuario);
-        novaConsulta.setResponsavelMedico(medicoExecutor);
+        novaConsulta.setResponsavelMedico(referencia(medicoExecutor));
 
         if (novaConsulta.getDataConsulta() == null) {
             novaConsulta.setDataConsulta(LocalDateTime.now());
@@ -205,85 +220,90 @@ public class ProntuarioService {
             consultaSalva.getSinaisVitais().setConsulta(consultaSalva);
         }
 
-        atualizarDataProntuario(prontuario);
-        return consultaMapper.toDTO(consultaSalva);
+        prontuarioResumoAtualizador.registrarConsulta(consultaSalva, true);
+        return consultaMapper.toDTO(consultaSalva, medicoExecutor);
     }
 
     @Transactional
-    public ExameRegistroDTO adicionarExameERetornarDTO(Long pacienteId, CriarExameRequestDTO dto, AdministradorEntity adminLogado, Long medicoResponsavelExameId) {
-        MedicoEntity medicoExame = medicoRepository.findById(medicoResponsavelExameId)
+    public ExameRegistroDTO adicionarExameERetornarDTO(Long pacienteId, CriarExameRequestDTO dto, AdministradorPrincipal adminLogado, Long medicoResponsavelExameId) {
+        MedicoSnapshot medicoExame = medicoSnapshotCache.buscar(medicoResponsavelExameId)
                 .orElseThrow(() -> new ResourceNotFoundException("Médico responsável pelo exame (ID: " + medicoResponsavelExameId + ") não encontrado."));
-        if (medicoExame.getDeletedAt() != null) {
+        if (!medicoExame.isAtivo()) {
             throw new IllegalArgumentException("Médico responsável pelo exame ("+ medicoExame.getNomeCompleto() +") não está ativo.");
         }
         ProntuarioEntity prontuario = findOrCreateProntuario(pacienteId, medicoResponsavelExameId, adminLogado);
 
         ExameRegistroEntity novoExame = exameMapper.toEntity(dto);
         novoExame.setProntuario(prontuario);
-        novoExame.setMedicoResponsavelExame(medicoExame);
+        novoExame.setMedicoResponsavelExame(referencia(medicoExame));
         if (novoExame.getDataExame() == null) {
             novoExame.setDataExame(LocalDateTime.now());
         }
 
         ExameRegistroEntity exameSalvo = exameRepository.save(novoExame);
-        atualizarDataProntuario(prontuario);
-        return exameMapper.toDTO(exameSalvo);
+        prontuarioResumoAtualizador.registrarExame(exameSalvo, true);
+        return exameMapper.toDTO(exameSalvo, medicoExame);
     }
 
     @Transactional
-    public ProcedimentoRegistroDTO adicionarProcedimentoERetornarDTO(Long pacienteId, CriarProcedimentoRequestDTO dto, AdministradorEntity adminLogado) {
-        MedicoEntity medicoExecutor = medicoRepository.findById(dto.getMedicoExecutorId())
+    public ProcedimentoRegistroDTO adicionarProcedimentoERetornarDTO(Long pacienteId, CriarProcedimentoRequestDTO dto, AdministradorPrincipal adminLogado) {
+        MedicoSnapshot medicoExecutor = medicoSnapshotCache.buscar(dto.getMedicoExecutorId())
                 .orElseThrow(() -> new ResourceNotFoundException("Médico executor do procedimento (ID: " + dto.getMedicoExecutorId() + ") não encontrado."));
-        if (medicoExecutor.getDeletedAt() != null) {
+        if (!medicoExecutor.isAtivo()) {
             throw new IllegalArgumentException("Médico executor ("+ medicoExecutor.getNomeCompleto() +") não está ativo.");
         }
         ProntuarioEntity prontuario = findOrCreateProntuario(pacienteId, medicoExecutor.getId(), adminLogado);
 
         ProcedimentoRegistroEntity novoProcedimento = procedimentoMapper.toEntity(dto);
         novoProcedimento.setProntuario(prontuario);
-        novoProcedimento.setMedicoExecutor(medicoExecutor);
+        novoProcedimento.setMedicoExecutor(referencia(medicoExecutor));
         if (novoProcedimento.getDataProcedimento() == null) {
             novoProcedimento.setDataProcedimento(LocalDateTime.now());
         }
 
         ProcedimentoRegistroEntity procedimentoSalvo = procedimentoRepository.save(novoProcedimento);
-        atualizarDataProntuario(prontuario);
-        return procedimentoMapper.toDTO(procedimentoSalvo);
+        prontuarioResumoAtualizador.registrarProcedimento(procedimentoSalvo, true);
+        return procedimentoMapper.toDTO(procedimentoSalvo, medicoExecutor);
     }
 
     @Transactional
-    public EncaminhamentoRegistroDTO adicionarEncaminhamentoERetornarDTO(Long pacienteId, CriarEncaminhamentoRequestDTO dto, AdministradorEntity adminLogado) {
-        MedicoEntity medicoSolicitante = medicoRepository.findById(dto.getMedicoSolicitanteId())
+    public EncaminhamentoRegistroDTO adicionarEncaminhamentoERetornarDTO(Long pacienteId, CriarEncaminhamentoRequestDTO dto, AdministradorPrincipal adminLogado) {
+        MedicoSnapshot medicoSolicitante = medicoSnapshotCache.buscar(dto.getMedicoSolicitanteId())
                 .orElseThrow(() -> new ResourceNotFoundException("Médico solicitante do encaminhamento (ID: " + dto.getMedicoSolicitanteId() + ") não encontrado."));
-        if (medicoSolicitante.getDeletedAt() != null) {
+        if (!medicoSolicitante.isAtivo()) {
             throw new IllegalArgumentException("Médico solicitante ("+ medicoSolicitante.getNomeCompleto() +") não está ativo.");
         }
         ProntuarioEntity prontuario = findOrCreateProntuario(pacienteId, medicoSolicitante.getId(), adminLogado);
 
         EncaminhamentoRegistroEntity novoEncaminhamento = encaminhamentoMapper.toEntity(dto);
         novoEncaminhamento.setProntuario(prontuario);
-        novoEncaminhamento.setMedicoSolicitante(medicoSolicitante);
+        novoEncaminhamento.setMedicoSolicitante(referencia(medicoSolicitante));
         if (novoEncaminhamento.getDataEncaminhamento() == null) {
             novoEncaminhamento.setDataEncaminhamento(LocalDateTime.now());
         }
 
         EncaminhamentoRegistroEntity encaminhamentoSalvo = encaminhamentoRepository.save(novoEncaminhamento);
-        atualizarDataProntuario(prontuario);
-        return encaminhamentoMapper.toDTO(encaminhamentoSalvo);
+        prontuarioResumoAtualizador.registrarEncaminhamento(encaminhamentoSalvo, true);
+        return encaminhamentoMapper.toDTO(encaminhamentoSalvo, medicoSolicitante);
     }
 
-    @Transactional
-    public ConsultaDTO atualizarConsultaERetornarDTO(Long consultaId, AtualizarConsultaRequestDTO dto, AdministradorEntity adminLogado) {
+    public ConsultaDTO atualizarConsultaERetornarDTO(Long consultaId, AtualizarConsultaRequestDTO dto, AdministradorPrincipal adminLogado, Long versaoEsperada) {
+        return retentativaOtimista.executarEdicao(versaoEsperada, "Consulta " + consultaId,
+                () -> atualizarConsulta(consultaId, dto, adminLogado, versaoEsperada));
+    }
+
+    private ConsultaDTO atualizarConsulta(Long consultaId, AtualizarConsultaRequestDTO dto, AdministradorPrincipal adminLogado, Long versaoEsperada) {
         ConsultaRegistroEntity consultaExistente = consultaRepository.findById(consultaId)
                 .orElseThrow(() -> new ResourceNotFoundException("Consulta não encontrada com ID: " + consultaId));
+        retentativaOtimista.verificar(versaoEsperada, consultaExistente.getVersao(), "Consulta " + consultaId);
 
-        MedicoEntity medicoExecutor = medicoRepository.findById(dto.getMedicoExecutorId())
+        MedicoSnapshot medicoExecutor = medicoSnapshotCache.buscar(dto.getMedicoExecutorId())
                 .orElseThrow(() -> new ResourceNotFoundException("Médico executor não encontrado: ID " + dto.getMedicoExecutorId()));
-        if (medicoExecutor.getDeletedAt() != null) {
+        if (!medicoExecutor.isAtivo()) {
             throw new IllegalArgumentException("Médico (" + medicoExecutor.getNomeCompleto() + ") não está ativo.");
         }
 
-        consultaMapper.updateEntityFromDTO(dto, consultaExistente, medicoExecutor, adminLogado);
+        consultaMapper.updateEntityFromDTO(dto, consultaExistente, referencia(medicoExecutor), adminLogado);
 
         if (dto.getSinaisVitais() != null) {
             SinaisVitaisEntity sinaisVitais = consultaExistente.getSinaisVitais();
@@ -299,103 +319,124 @@ public class ProntuarioService {
             sinaisVitais.setHgt(dto.getSinaisVitais().getHgt());
             sinaisVitaisRepository.save(sinaisVitais);
             consultaExistente.setSinaisVitais(sinaisVitais);
+            consultaExistente.setUpdatedAt(LocalDateTime.now());
         } else if (consultaExistente.getSinaisVitais() != null) {
         }
 
-        ConsultaRegistroEntity consultaAtualizada = consultaRepository.save(consultaExistente);
-        atualizarDataProntuario(consultaAtualizada.getProntuario());
-        return consultaMapper.toDTO(consultaAtualizada);
+        ConsultaRegistroEntity consultaAtualizada = consultaRepository.saveAndFlush(consultaExistente);
+        prontuarioResumoAtualizador.registrarConsulta(consultaAtualizada, false);
+        return consultaMapper.toDTO(consultaAtualizada, medicoExecutor);
     }
 
-    @Transactional
-    public ExameRegistroDTO atualizarExameERetornarDTO(Long exameId, AtualizarExameRequestDTO dto, AdministradorEntity adminLogado) {
+    public ExameRegistroDTO atualizarExameERetornarDTO(Long exameId, AtualizarExameRequestDTO dto, AdministradorPrincipal adminLogado, Long versaoEsperada) {
+        return retentativaOtimista.executarEdicao(versaoEsperada, "Exame " + exameId,
+                () -> atualizarExame(exameId, dto, adminLogado, versaoEsperada));
+    }
+
+    private ExameRegistroDTO atualizarExame(Long exameId, AtualizarExameRequestDTO dto, AdministradorPrincipal adminLogado, Long versaoEsperada) {
         ExameRegistroEntity exameExistente = exameRepository.findById(exameId)
                 .orElseThrow(() -> new ResourceNotFoundException("Exame não encontrado com ID: " + exameId));
+        retentativaOtimista.verificar(versaoEsperada, exameExistente.getVersao(), "Exame " + exameId);
 
-        MedicoEntity medicoResponsavelExame = null;
+        MedicoSnapshot medicoResponsavelExame = null;
         if (dto.getMedicoResponsavelExameId() != null) {
-            medicoResponsavelExame = medicoRepository.findById(dto.getMedicoResponsavelExameId())
+            medicoResponsavelExame = medicoSnapshotCache.buscar(dto.getMedicoResponsavelExameId())
                     .orElseThrow(() -> new ResourceNotFoundException("Médico responsável pelo exame não encontrado: ID " + dto.getMedicoResponsavelExameId()));
-            if (medicoResponsavelExame.getDeletedAt() != null) {
+            if (!medicoResponsavelExame.isAtivo()) {
                 throw new IllegalArgumentException("Médico responsável (" + medicoResponsavelExame.getNomeCompleto() + ") não está ativo.");
             }
         }
-        exameMapper.updateEntityFromDTO(dto, exameExistente, medicoResponsavelExame, adminLogado);
+        exameMapper.updateEntityFromDTO(dto, exameExistente, referencia(medicoResponsavelExame), adminLogado);
 
-        ExameRegistroEntity exameAtualizado = exameRepository.save(exameExistente);
-        atualizarDataProntuario(exameAtualizado.getProntuario());
-        return exameMapper.toDTO(exameAtualizado);
+        ExameRegistroEntity exameAtualizado = exameRepository.saveAndFlush(exameExistente);
+        prontuarioResumoAtualizador.registrarExame(exameAtualizado, false);
+        return exameMapper.toDTO(exameAtualizado, medicoResponsavelExame);
     }
 
-    @Transactional
-    public ProcedimentoRegistroDTO atualizarProcedimentoERetornarDTO(Long procedimentoId, AtualizarProcedimentoRequestDTO dto, AdministradorEntity adminLogado) {
+    public ProcedimentoRegistroDTO atualizarProcedimentoERetornarDTO(Long procedimentoId, AtualizarProcedimentoRequestDTO dto, AdministradorPrincipal adminLogado, Long versaoEsperada) {
+        return retentativaOtimista.executarEdicao(versaoEsperada, "Procedimento " + procedimentoId,
+                () -> atualizarProcedimento(procedimentoId, dto, adminLogado, versaoEsperada));
+    }
+
+    private ProcedimentoRegistroDTO atualizarProcedimento(Long procedimentoId, AtualizarProcedimentoRequestDTO dto, AdministradorPrincipal adminLogado, Long versaoEsperada) {
         ProcedimentoRegistroEntity procedimentoExistente = procedimentoRepository.findById(procedimentoId)
                 .orElseThrow(() -> new ResourceNotFoundException("Procedimento não encontrado com ID: " + procedimentoId));
+        retentativaOtimista.verificar(versaoEsperada, procedimentoExistente.getVersao(), "Procedimento " + procedimentoId);
 
-        MedicoEntity medicoExecutor;
+        MedicoSnapshot medicoExecutor;
         if (dto.getMedicoExecutorId() != null) {
-            medicoExecutor = medicoRepository.findById(dto.getMedicoExecutorId())
+            medicoExecutor = medicoSnapshotCache.buscar(dto.getMedicoExecutorId())
                     .orElseThrow(() -> new ResourceNotFoundException("Médico executor não encontrado: ID " + dto.getMedicoExecutorId()));
-            if (medicoExecutor.getDeletedAt() != null) {
+            if (!medicoExecutor.isAtivo()) {
                 throw new IllegalArgumentException("Médico executor (" + medicoExecutor.getNomeCompleto() + ") não está ativo.");
             }
         } else {
             throw new IllegalArgumentException("ID do médico executor é obrigatório para atualizar procedimentos.");
         }
 
-        procedimentoMapper.updateEntityFromDTO(dto, procedimentoExistente, medicoExecutor);
+        procedimentoMapper.updateEntityFromDTO(dto, procedimentoExistente, referencia(medicoExecutor));
 
-        ProcedimentoRegistroEntity procedimentoAtualizado = procedimentoRepository.save(procedimentoExistente);
-        atualizarDataProntuario(procedimentoAtualizado.getProntuario());
-        return procedimentoMapper.toDTO(procedimentoAtualizado);
+        ProcedimentoRegistroEntity procedimentoAtualizado = procedimentoRepository.saveAndFlush(procedimentoExistente);
+        prontuarioResumoAtualizador.registrarProcedimento(procedimentoAtualizado, false);
+        return procedimentoMapper.toDTO(procedimentoAtualizado, medicoExecutor);
     }
 
-    @Transactional
-    public EncaminhamentoRegistroDTO atualizarEncaminhamentoERetornarDTO(Long encaminhamentoId, AtualizarEncaminhamentoRequestDTO dto, AdministradorEntity adminLogado) {
+    public EncaminhamentoRegistroDTO atualizarEncaminhamentoERetornarDTO(Long encaminhamentoId, AtualizarEncaminhamentoRequestDTO dto, AdministradorPrincipal adminLogado, Long versaoEsperada) {
+        return retentativaOtimista.executarEdicao(versaoEsperada, "Encaminhamento " + encaminhamentoId,
+                () -> atualizarEncaminhamento(encaminhamentoId, dto, adminLogado, versaoEsperada));
+    }
+
+    private EncaminhamentoRegistroDTO atualizarEncaminhamento(Long encaminhamentoId, AtualizarEncaminhamentoRequestDTO dto, AdministradorPrincipal adminLogado, Long versaoEsperada) {
         EncaminhamentoRegistroEntity encaminhamentoExistente = encaminhamentoRepository.findById(encaminhamentoId)
                 .orElseThrow(() -> new ResourceNotFoundException("Encaminhamento não encontrado com ID: " + encaminhamentoId));
+        retentativaOtimista.verificar(versaoEsperada, encaminhamentoExistente.getVersao(), "Encaminhamento " + encaminhamentoId);
 
-        MedicoEntity medicoSolicitante;
+        MedicoSnapshot medicoSolicitante;
         if (dto.getMedicoSolicitanteId() != null) {
-            medicoSolicitante = medicoRepository.findById(dto.getMedicoSolicitanteId())
+            medicoSolicitante = medicoSnapshotCache.buscar(dto.getMedicoSolicitanteId())
                     .orElseThrow(() -> new ResourceNotFoundException("Médico solicitante não encontrado: ID " + dto.getMedicoSolicitanteId()));
-            if (medicoSolicitante.getDeletedAt() != null) {
+            if (!medicoSolicitante.isAtivo()) {
                 throw new IllegalArgumentException("Médico solicitante (" + medicoSolicitante.getNomeCompleto() + ") não está ativo.");
             }
         } else {
             throw new IllegalArgumentException("ID do médico solicitante é obrigatório para atualizar encaminhamentos.");
         }
 
-        encaminhamentoMapper.updateEntityFromDTO(dto, encaminhamentoExistente, medicoSolicitante);
+        encaminhamentoMapper.updateEntityFromDTO(dto, encaminhamentoExistente, referencia(medicoSolicitante));
 
-        EncaminhamentoRegistroEntity encaminhamentoAtualizado = encaminhamentoRepository.save(encaminhamentoExistente);
-        atualizarDataProntuario(encaminhamentoAtualizado.getProntuario());
-        return encaminhamentoMapper.toDTO(encaminhamentoAtualizado);
+        EncaminhamentoRegistroEntity encaminhamentoAtualizado = encaminhamentoRepository.saveAndFlush(encaminhamentoExistente);
+        prontuarioResumoAtualizador.registrarEncaminhamento(encaminhamentoAtualizado, false);
+        return encaminhamentoMapper.toDTO(encaminhamentoAtualizado, medicoSolicitante);
     }
 
-    @Transactional
-    public ProntuarioDTO atualizarDadosBasicosProntuarioERetornarDTO(Long prontuarioId, Long medicoResponsavelIdNovo) {
+    public ProntuarioDTO atualizarDadosBasicosProntuarioERetornarDTO(Long prontuarioId, Long medicoResponsavelIdNovo, Long versaoEsperada) {
+        return retentativaOtimista.executarEdicao(versaoEsperada, "Prontuário " + prontuarioId,
+                () -> atualizarDadosBasicosProntuario(prontuarioId, medicoResponsavelIdNovo, versaoEsperada));
+    }
+
+    private ProntuarioDTO atualizarDadosBasicosProntuario(Long prontuarioId, Long medicoResponsavelIdNovo, Long versaoEsperada) {
         ProntuarioEntity prontuario = prontuarioRepository.findById(prontuarioId)
                 .orElseThrow(() -> new ResourceNotFoundException("Prontuário não encontrado com ID: " + prontuarioId));
+        retentativaOtimista.verificar(versaoEsperada, prontuario.getVersao(), "Prontuário " + prontuarioId);
 
         if (medicoResponsavelIdNovo == null) {
             throw new IllegalArgumentException("Médico responsável principal do prontuário não pode ser nulo.");
         }
 
-        MedicoEntity medicoNovo = medicoRepository.findById(medicoResponsavelIdNovo)
+        MedicoSnapshot medicoNovo = medicoSnapshotCache.buscar(medicoResponsavelIdNovo)
                 .orElseThrow(() -> new ResourceNotFoundException("Novo médico responsável não encontrado com ID: " + medicoResponsavelIdNovo));
-        if (medicoNovo.getDeletedAt() != null) {
+        if (!medicoNovo.isAtivo()) {
             throw new IllegalArgumentException("Novo médico responsável selecionado ("+ medicoNovo.getNomeCompleto() +") não está ativo.");
         }
 
         boolean modificado = false;
         if (prontuario.getMedicoResponsavel() == null || !medicoResponsavelIdNovo.equals(prontuario.getMedicoResponsavel().getId())) {
-            prontuario.setMedicoResponsavel(medicoNovo);
+            prontuario.setMedicoResponsavel(referencia(medicoNovo));
             modificado = true;
         }
 
         if (modificado) {
-            prontuarioRepository.save(prontuario);
+            prontuarioRepository.saveAndFlush(prontuario);
         }
         return buscarProntuarioPorIdDetalhado(prontuario.getId());
     }
@@ -0,0 +1,179 @@
+package com.main.domain.service;
+
+import com.main.api.exception.ResourceNotFoundException;
+import com.main.api.model.CursorPageDTO;
+import com.main.api.model.HistoricoMedicoDTO;
+import com.main.domain.repository.EncaminhamentoRegistroRepository;
+import com.main.domain.repository.EntradaMedicaRegistroRepository;
+import com.main.domain.repository.ExameRegistroRepository;
+import com.main.domain.repository.ProcedimentoRegistroRepository;
+import com.main.domain.repository.ProntuarioRepository;
+import com.main.mapper.HistoricoMedicoMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
+
+@Service
+public class ProntuarioTimelineService {
+
+    private static final int LIMITE_PADRAO = 50;
+    private static final int LIMITE_MAXIMO = 200;
+
+    enum TipoRegistro { CONSULTA, EXAME, PROCEDIMENTO, ENCAMINHAMENTO }
+
+    private static final Comparator<Evento> ORDEM_TIMELINE = Comparator
+            .comparing((Evento e) -> e.item.getData(), Comparator.reverseOrder())
+            .thenComparing(e -> e.tipo)
+            .thenComparing((Evento e) -> e.item.getId(), Comparator.reverseOrder());
+
+    @Autowired private ProntuarioRepository prontuarioRepository;
+    @Autowired private EntradaMedicaRegistroRepository consultaRepository;
+    @Autowired private ExameRegistroRepository exameRepository;
+    @Autowired private ProcedimentoRegistroRepository procedimentoRepository;
+    @Autowired private EncaminhamentoRegistroRepository encaminhamentoRepository;
+    @Autowired private HistoricoMedicoMapper historicoMedicoMapper;
+
+    @Transactional(readOnly = true)
+    public CursorPageDTO<HistoricoMedicoDTO> buscarTimeline(Long prontuarioId, String after, Integer limit) {
+        int limite = limit != null ? limit : LIMITE_PADRAO;
+        if (limite < 1 || limite > LIMITE_MAXIMO) {
+            throw new IllegalArgumentException("O parâmetro limit deve estar entre 1 e " + LIMITE_MAXIMO + ".");
+        }
+        if (!prontuarioRepository.existsById(prontuarioId)) {
+            throw new ResourceNotFoundException("Prontuário não encontrado com ID: " + prontuarioId);
+        }
+        Evento cursor = parseCursor(after);
+
+        PriorityQueue<Evento> heap = new PriorityQueue<>(TipoRegistro.values().length, ORDEM_TIMELINE);
+        for (TipoRegistro tipo : TipoRegistro.values()) {
+            Fluxo fluxo = new Fluxo(tipo, prontuarioId, cursor, limite + 1);
+            fluxo.avancar(heap);
+        }
+
+        List<Evento> emitidos = new ArrayList<>(limite + 1);
+        while (!heap.isEmpty() && emitidos.size() <= limite) {
+            Evento evento = heap.poll();
+            emitidos.add(evento);
+            evento.origem.avancar(heap);
+        }
+
+        boolean temMais = emitidos.size() > limite;
+        List<Evento> pagina = temMais ? emitidos.subList(0, limite) : emitidos;
+        String proximoCursor = null;
+        if (temMais) {
+            Evento ultimo = pagina.get(pagina.size() - 1);
+            proximoCursor = ultimo.item.getData() + "," + ultimo.tipo.name() + "," + ultimo.item.getId();
+        }
+        List<HistoricoMedicoDTO> itens = pagina.stream().map(e -> e.item).collect(Collectors.toList());
+        return new CursorPageDTO<>(itens, proximoCursor, temMais);
+    }
+
+    private Evento parseCursor(String valor) {
+        if (!StringUtils.hasText(valor)) {
+            return null;
+        }
+        String[] partes = valor.split(",");
+        if (partes.length != 3) {
+            throw new IllegalArgumentException("Cursor inválido: use o formato <data>,<tipo>,<id>.");
+        }
+        try {
+            HistoricoMedicoDTO item = new HistoricoMedicoDTO();
+            item.setData(LocalDateTime.parse(partes[0].trim()));
+            item.setId(Long.valueOf(partes[2].trim()));
+            return new Evento(TipoRegistro.valueOf(partes[1].trim().toUpperCase()), item, null);
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor inválido: use o formato <data>,<tipo>,<id>.");
+        }
+    }
+
+    private List<HistoricoMedicoDTO> buscarLote(TipoRegistro tipo, Long prontuarioId, LocalDateTime data, Long id, Pageable lote) {
+        switch (tipo) {
+            case CONSULTA:
+                return (data == null
+                        ? consultaRepository.findMaisRecentesByProntuarioId(prontuarioId, lote)
+                        : consultaRepository.findAnterioresAoCursorByProntuarioId(prontuarioId, data, id, lote))
+                        .stream().map(historicoMedicoMapper::fromConsulta).collect(Collectors.toList());
+            case EXAME:
+                return (data == null
+                        ? exameRepository.findMaisRecentesByProntuarioId(prontuarioId, lote)
+                        : exameRepository.findAnterioresAoCursorByProntuarioId(prontuarioId, data, id, lote))
+                        .stream().map(historicoMedicoMapper::fromExame).collect(Collectors.toList());
+            case PROCEDIMENTO:
+                return (data == null
+                        ? procedimentoRepository.findMaisRecentesByProntuarioId(prontuarioId, lote)
+                        : procedimentoRepository.findAnterioresAoCursorByProntuarioId(prontuarioId, data, id, lote))
+                        .stream().map(historicoMedicoMapper::fromProcedimento).collect(Collectors.toList());
+            default:
+                return (data == null
+                        ? encaminhamentoRepository.findMaisRecentesByProntuarioId(prontuarioId, lote)
+                        : encaminhamentoRepository.findAnterioresAoCursorByProntuarioId(prontuarioId, data, id, lote))
+                        .stream().map(historicoMedicoMapper::fromEncaminhamento).collect(Collectors.toList());
+        }
+    }
+
+    private static class Evento {
+        private final TipoRegistro tipo;
+        private final HistoricoMedicoDTO item;
+        private final Fluxo origem;
+
+        Evento(TipoRegistro tipo, HistoricoMedicoDTO item, Fluxo origem) {
+            this.tipo = tipo;
+            this.item = item;
+            this.origem = origem;
+        }
+    }
+
+    private class Fluxo {
+        private final TipoRegistro tipo;
+        private final Long prontuarioId;
+        private final Pageable lote;
+        private final Deque<HistoricoMedicoDTO> buffer = new ArrayDeque<>();
+        private LocalDateTime posicaoData;
+        private Long posicaoId;
+        private boolean esgotado;
+
+        Fluxo(TipoRegistro tipo, Long prontuarioId, Evento cursor, int tamanhoLote) {
+            this.tipo = tipo;
+            this.prontuarioId = prontuarioId;
+            this.lote = PageRequest.of(0, tamanhoLote);
+            if (cursor != null) {
+                int comparacao = tipo.compareTo(cursor.tipo);
+                this.posicaoData = cursor.item.getData();
+                if (comparacao == 0) {
+                    this.posicaoId = cursor.item.getId();
+                } else if (comparacao > 0) {
+                    this.posicaoId = Long.MAX_VALUE;
+                } else {
+                    this.posicaoId = Long.MIN_VALUE;
+                }
+            }
+        }
+
+        void avancar(PriorityQueue<Evento> heap) {
+            if (buffer.isEmpty() && !esgotado) {
+                List<HistoricoMedicoDTO> linhas = buscarLote(tipo, prontuarioId, posicaoData, posicaoId, lote);
+                esgotado = linhas.size() < lote.getPageSize();
+                buffer.addAll(linhas);
+            }
+            HistoricoMedicoDTO proximo = buffer.pollFirst();
+            if (proximo != null) {
+                posicaoData = proximo.getData();
+                posicaoId = proximo.getId();
+                heap.add(new Evento(tipo, proximo, this));
+            }
+        }
+    }
+}
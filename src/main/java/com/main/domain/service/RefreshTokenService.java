@@ -0,0 +1,105 @@
+package com.main.domain.service;
+
+import com.main.api.exception.InvalidCredentialsException;
+import com.main.domain.entity.AdministradorEntity;
+import com.main.domain.entity.RefreshTokenEntity;
+import com.main.domain.repository.RefreshTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+@Service
+public class RefreshTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+    private static final int BYTES_TOKEN = 32;
+    private static final String MENSAGEM_INVALIDO = "Refresh token inválido ou expirado";
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Value("${jwt.refresh.validade-dias:14}")
+    private long validadeDias;
+
+    @Transactional
+    public String emitir(AdministradorEntity admin) {
+        refreshTokenRepository.removerExpiradosDoAdministrador(admin.getId(), LocalDateTime.now());
+        return salvarNovo(admin, UUID.randomUUID().toString());
+    }
+
+    @Transactional(noRollbackFor = InvalidCredentialsException.class)
+    public Rotacao rotacionar(String token) {
+        RefreshTokenEntity atual = refreshTokenRepository.findByTokenHashFetchingAdministrador(hash(token))
+                .orElseThrow(() -> new InvalidCredentialsException(MENSAGEM_INVALIDO));
+
+        LocalDateTime agora = LocalDateTime.now();
+        if (atual.getRevogadoEm() != null || refreshTokenRepository.revogarSeAtivo(atual.getId(), agora) == 0) {
+            int revogados = refreshTokenRepository.revogarFamilia(atual.getFamilia(), agora);
+            logger.warn("SERVICE: Reuso de refresh token detectado para o administrador {}; {} token(s) da família revogados.",
+                    atual.getAdministrador().getId(), revogados);
+            throw new InvalidCredentialsException(MENSAGEM_INVALIDO);
+        }
+        if (atual.getExpiraEm().isBefore(agora)) {
+            throw new InvalidCredentialsException(MENSAGEM_INVALIDO);
+        }
+
+        AdministradorEntity admin = atual.getAdministrador();
+        return new Rotacao(admin, salvarNovo(admin, atual.getFamilia()));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void revogarTodos(Long administradorId) {
+        refreshTokenRepository.revogarTodosDoAdministrador(administradorId, LocalDateTime.now());
+    }
+
+    private String salvarNovo(AdministradorEntity admin, String familia) {
+        byte[] bytes = new byte[BYTES_TOKEN];
+        secureRandom.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        RefreshTokenEntity entidade = new RefreshTokenEntity();
+        entidade.setAdministrador(admin);
+        entidade.setTokenHash(hash(token));
+        entidade.setFamilia(familia);
+        entidade.setExpiraEm(LocalDateTime.now().plusDays(validadeDias));
+        refreshTokenRepository.save(entidade);
+        return token;
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    public static final class Rotacao {
+        private final AdministradorEntity administrador;
+        private final String refreshToken;
+
+        private Rotacao(AdministradorEntity administrador, String refreshToken) {
+            this.administrador = administrador;
+            this.refreshToken = refreshToken;
+        }
+
+        public AdministradorEntity getAdministrador() { return administrador; }
+        public String getRefreshToken() { return refreshToken; }
+    }
+}
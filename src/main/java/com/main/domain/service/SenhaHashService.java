@@ -0,0 +1,126 @@
+package com.main.domain.service;
+
+import com.main.api.exception.ServicoIndisponivelException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Service
+public class SenhaHashService implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(SenhaHashService.class);
+    private static final Pattern CUSTO_BCRYPT = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+    private static final String MENSAGEM_SOBRECARGA = "Serviço de autenticação sobrecarregado. Tente novamente em instantes.";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final int custoConfigurado;
+    private final long timeoutMillis;
+    private final Timer tempoCodificacao;
+    private final Timer tempoVerificacao;
+    private final Counter rejeicoes;
+
+    public SenhaHashService(PasswordEncoder passwordEncoder,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.seguranca.bcrypt.custo:10}") int custoConfigurado,
+                            @Value("${app.seguranca.hash.threads:0}") int threads,
+                            @Value("${app.seguranca.hash.fila:64}") int capacidadeFila,
+                            @Value("${app.seguranca.hash.timeout-ms:5000}") long timeoutMillis) {
+        this.passwordEncoder = passwordEncoder;
+        this.custoConfigurado = custoConfigurado;
+        this.timeoutMillis = timeoutMillis;
+
+        int tamanhoPool = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger sequencia = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(tamanhoPool, tamanhoPool, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacidadeFila),
+                r -> {
+                    Thread thread = new Thread(r, "senha-hash-" + sequencia.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "senha.hash");
+
+        this.tempoCodificacao = Timer.builder("senha.hash.duracao")
+                .description("Tempo total (fila + hash) das operações de senha")
+                .tag("operacao", "codificar")
+                .register(meterRegistry);
+        this.tempoVerificacao = Timer.builder("senha.hash.duracao")
+                .description("Tempo total (fila + hash) das operações de senha")
+                .tag("operacao", "verificar")
+                .register(meterRegistry);
+        this.rejeicoes = Counter.builder("senha.hash.rejeicoes")
+                .description("Operações de senha rejeitadas por saturação do executor")
+                .register(meterRegistry);
+    }
+
+    public String codificar(String senha) {
+        return executar(tempoCodificacao, () -> passwordEncoder.encode(senha));
+    }
+
+    public boolean verificar(String senha, String hash) {
+        return executar(tempoVerificacao, () -> passwordEncoder.matches(senha, hash));
+    }
+
+    public boolean precisaRecodificar(String hash) {
+        if (hash == null) {
+            return false;
+        }
+        Matcher matcher = CUSTO_BCRYPT.matcher(hash);
+        return !matcher.find() || Integer.parseInt(matcher.group(1)) != custoConfigurado;
+    }
+
+    private <T> T executar(Timer timer, Callable<T> operacao) {
+        long inicio = System.nanoTime();
+        Future<T> futuro;
+        try {
+            futuro = executor.submit(operacao);
+        } catch (RejectedExecutionException e) {
+            rejeicoes.increment();
+            logger.warn("SERVICE: Executor de hash de senha saturado; requisição rejeitada.");
+            throw new ServicoIndisponivelException(MENSAGEM_SOBRECARGA);
+        }
+        try {
+            return futuro.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            futuro.cancel(true);
+            rejeicoes.increment();
+            throw new ServicoIndisponivelException(MENSAGEM_SOBRECARGA);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServicoIndisponivelException(MENSAGEM_SOBRECARGA);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            timer.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -4,6 +4,7 @@ import com.main.domain.entity.AdministradorEntity;
 import com.main.api.model.AdministradorRegistroDTO;
 import com.main.api.model.AdministradorDadosDTO;
 import com.main.api.model.ProntuarioDTO;
+import com.main.util.AdministradorPrincipal;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.GrantedAuthority;
@@ -37,6 +38,21 @@ public class AdministradorMapper {
         return dto;
     }
 
+    public AdministradorDadosDTO toDadosDTO(AdministradorPrincipal admin) {
+        if (admin == null) return null;
+        AdministradorDadosDTO dto = new AdministradorDadosDTO();
+        dto.setId(admin.getId());
+        dto.setNome(admin.getNome());
+        dto.setEmail(admin.getEmail());
+        String role = admin.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .map(authority -> authority.replace("ROLE_", ""))
+                .findFirst()
+                .orElse("USER");
+        dto.setRole(role);
+        return dto;
+    }
+
     public Map<String, Object> toLoginResponseMap(AdministradorEntity admin, String token) {
         Map<String, Object> response = new HashMap<>();
         response.put("mensagem", "Login realizado com sucesso");
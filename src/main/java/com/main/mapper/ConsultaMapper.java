@@ -1,13 +1,13 @@
 package com.main.mapper;
 
-import com.main.domain.entity.AdministradorEntity;
 import com.main.domain.entity.ConsultaRegistroEntity;
 import com.main.domain.entity.MedicoEntity;
+import com.main.domain.projection.MedicoSnapshot;
 import com.main.domain.entity.SinaisVitaisEntity;
 import com.main.api.model.ConsultaDTO;
 import com.main.api.model.CriarConsultaRequestDTO;
 import com.main.api.model.AtualizarConsultaRequestDTO;
-import org.modelmapper.ModelMapper;
+import com.main.util.AdministradorPrincipal;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -15,12 +15,10 @@ import org.springframework.util.StringUtils;
 @Component
 public class ConsultaMapper {
 
-    private final ModelMapper modelMapper;
     private final SinaisVitaisMapper sinaisVitaisMapper;
 
     @Autowired
-    public ConsultaMapper(ModelMapper modelMapper, SinaisVitaisMapper sinaisVitaisMapper) {
-        this.modelMapper = modelMapper;
+    public ConsultaMapper(SinaisVitaisMapper sinaisVitaisMapper) {
         this.sinaisVitaisMapper = sinaisVitaisMapper;
     }
 
@@ -44,11 +42,25 @@ public class ConsultaMapper {
     }
 
     public ConsultaDTO toDTO(ConsultaRegistroEntity entity) {
+        return toDTO(entity, null);
+    }
+
+    public ConsultaDTO toDTO(ConsultaRegistroEntity entity, MedicoSnapshot responsavel) {
         if (entity == null) return null;
 
-        ConsultaDTO dto = modelMapper.map(entity, ConsultaDTO.class);
-        dto.setCreatedAt(entity.getCreatedAt());
+        ConsultaDTO dto = new ConsultaDTO();
+        dto.setId(entity.getId());
+        dto.setMotivoConsulta(entity.getMotivoConsulta());
+        dto.setQueixasPrincipais(entity.getQueixasPrincipais());
+        dto.setExameFisico(entity.getExameFisico());
+        dto.setHipoteseDiagnostica(entity.getHipoteseDiagnostica());
+        dto.setCondutaPlanoTerapeutico(entity.getCondutaPlanoTerapeutico());
+        dto.setDetalhesConsulta(entity.getDetalhesConsulta());
+        dto.setObservacoesConsulta(entity.getObservacoesConsulta());
         dto.setDataConsulta(entity.getDataConsulta());
+        dto.setCreatedAt(entity.getCreatedAt());
+        dto.setUpdatedAt(entity.getUpdatedAt());
+        dto.setVersao(entity.getVersao());
 
         if (entity.getProntuario() != null) {
             dto.setProntuarioId(entity.getProntuario().getId());
@@ -58,7 +70,12 @@ public class ConsultaMapper {
             dto.setSinaisVitais(sinaisVitaisMapper.toDTO(entity.getSinaisVitais()));
         }
 
-        if (entity.getResponsavelMedico() != null) {
+        if (responsavel != null) {
+            dto.setResponsavelId(responsavel.getId());
+            dto.setResponsavelNomeCompleto(responsavel.getNomeCompleto());
+            dto.setResponsavelEspecialidade(responsavel.getEspecialidade());
+            dto.setResponsavelCRM(responsavel.getCrm());
+        } else if (entity.getResponsavelMedico() != null) {
             dto.setResponsavelId(entity.getResponsavelMedico().getId());
             dto.setResponsavelNomeCompleto(entity.getResponsavelMedico().getNomeCompleto());
             dto.setResponsavelEspecialidade(entity.getResponsavelMedico().getEspecialidade());
@@ -67,7 +84,7 @@ public class ConsultaMapper {
         return dto;
     }
 
-    public void updateEntityFromDTO(AtualizarConsultaRequestDTO dto, ConsultaRegistroEntity entity, MedicoEntity medicoExecutor, AdministradorEntity adminLogado) {
+    public void updateEntityFromDTO(AtualizarConsultaRequestDTO dto, ConsultaRegistroEntity entity, MedicoEntity medicoExecutor, AdministradorPrincipal adminLogado) {
         if (dto == null || entity == null) return;
 
         if (StringUtils.hasText(dto.getMotivoConsulta())) entity.setMotivoConsulta(dto.getMotivoConsulta());
@@ -2,20 +2,16 @@ package com.main.mapper;
 
 import com.main.domain.entity.EncaminhamentoRegistroEntity;
 import com.main.domain.entity.MedicoEntity;
+import com.main.domain.projection.MedicoSnapshot;
 import com.main.api.model.CriarEncaminhamentoRequestDTO;
 import com.main.api.model.AtualizarEncaminhamentoRequestDTO;
 import com.main.api.model.EncaminhamentoRegistroDTO;
-import org.modelmapper.ModelMapper;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 @Component
 public class EncaminhamentoMapper {
 
-    @Autowired
-    private ModelMapper modelMapper;
-
     public EncaminhamentoRegistroEntity toEntity(CriarEncaminhamentoRequestDTO dto) {
         EncaminhamentoRegistroEntity entity = new EncaminhamentoRegistroEntity();
         entity.setEspecialidadeDestino(dto.getEspecialidadeDestino());
@@ -26,13 +22,26 @@ public class EncaminhamentoMapper {
     }
 
     public EncaminhamentoRegistroDTO toDTO(EncaminhamentoRegistroEntity entity) {
+        return toDTO(entity, null);
+    }
+
+    public EncaminhamentoRegistroDTO toDTO(EncaminhamentoRegistroEntity entity, MedicoSnapshot medicoSolicitante) {
         if (entity == null) return null;
-        EncaminhamentoRegistroDTO dto = modelMapper.map(entity, EncaminhamentoRegistroDTO.class);
+        EncaminhamentoRegistroDTO dto = new EncaminhamentoRegistroDTO();
+        dto.setId(entity.getId());
+        dto.setEspecialidadeDestino(entity.getEspecialidadeDestino());
+        dto.setMotivoEncaminhamento(entity.getMotivoEncaminhamento());
+        dto.setObservacoes(entity.getObservacoes());
 
         if (entity.getProntuario() != null) {
             dto.setProntuarioId(entity.getProntuario().getId());
         }
-        if (entity.getMedicoSolicitante() != null) {
+        if (medicoSolicitante != null) {
+            dto.setMedicoSolicitanteId(medicoSolicitante.getId());
+            dto.setMedicoSolicitanteNome(medicoSolicitante.getNomeCompleto());
+            dto.setMedicoSolicitanteCRM(medicoSolicitante.getCrm());
+            dto.setMedicoSolicitanteEspecialidade(medicoSolicitante.getEspecialidade());
+        } else if (entity.getMedicoSolicitante() != null) {
             dto.setMedicoSolicitanteId(entity.getMedicoSolicitante().getId());
             dto.setMedicoSolicitanteNome(entity.getMedicoSolicitante().getNomeCompleto());
             dto.setMedicoSolicitanteCRM(entity.getMedicoSolicitante().getCrm());
@@ -40,6 +49,7 @@ public class EncaminhamentoMapper {
         }
         dto.setCreatedAt(entity.getCreatedAt());
         dto.setUpdatedAt(entity.getUpdatedAt());
+        dto.setVersao(entity.getVersao());
         dto.setDataEncaminhamento(entity.getDataEncaminhamento());
         return dto;
     }
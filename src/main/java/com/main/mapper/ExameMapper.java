@@ -2,21 +2,17 @@ package com.main.mapper;
 
 import com.main.domain.entity.ExameRegistroEntity;
 import com.main.domain.entity.MedicoEntity;
-import com.main.domain.entity.AdministradorEntity;
+import com.main.domain.projection.MedicoSnapshot;
 import com.main.api.model.CriarExameRequestDTO;
 import com.main.api.model.AtualizarExameRequestDTO;
 import com.main.api.model.ExameRegistroDTO;
-import org.modelmapper.ModelMapper;
-import org.springframework.beans.factory.annotation.Autowired;
+import com.main.util.AdministradorPrincipal;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 @Component
 public class ExameMapper {
 
-    @Autowired
-    private ModelMapper modelMapper;
-
     public ExameRegistroEntity toEntity(CriarExameRequestDTO dto) {
         ExameRegistroEntity entity = new ExameRegistroEntity();
         entity.setNome(dto.getNome());
@@ -27,13 +23,26 @@ public class ExameMapper {
     }
 
     public ExameRegistroDTO toDTO(ExameRegistroEntity entity) {
+        return toDTO(entity, null);
+    }
+
+    public ExameRegistroDTO toDTO(ExameRegistroEntity entity, MedicoSnapshot medicoResponsavelExame) {
         if (entity == null) return null;
-        ExameRegistroDTO dto = modelMapper.map(entity, ExameRegistroDTO.class);
+        ExameRegistroDTO dto = new ExameRegistroDTO();
+        dto.setId(entity.getId());
+        dto.setNome(entity.getNome());
+        dto.setResultado(entity.getResultado());
+        dto.setObservacoes(entity.getObservacoes());
 
         if (entity.getProntuario() != null) {
             dto.setProntuarioId(entity.getProntuario().getId());
         }
-        if (entity.getMedicoResponsavelExame() != null) {
+        if (medicoResponsavelExame != null) {
+            dto.setMedicoResponsavelExameId(medicoResponsavelExame.getId());
+            dto.setMedicoResponsavelExameNome(medicoResponsavelExame.getNomeCompleto());
+            dto.setMedicoResponsavelExameEspecialidade(medicoResponsavelExame.getEspecialidade());
+            dto.setMedicoResponsavelExameCRM(medicoResponsavelExame.getCrm());
+        } else if (entity.getMedicoResponsavelExame() != null) {
             dto.setMedicoResponsavelExameId(entity.getMedicoResponsavelExame().getId());
             dto.setMedicoResponsavelExameNome(entity.getMedicoResponsavelExame().getNomeCompleto());
             dto.setMedicoResponsavelExameEspecialidade(entity.getMedicoResponsavelExame().getEspecialidade());
@@ -41,12 +50,13 @@ public class ExameMapper {
         }
         dto.setCreatedAt(entity.getCreatedAt());
         dto.setUpdatedAt(entity.getUpdatedAt());
+        dto.setVersao(entity.getVersao());
         dto.setDataExame(entity.getDataExame());
         return dto;
     }
 
     public void updateEntityFromDTO(AtualizarExameRequestDTO dto, ExameRegistroEntity entity,
-                                    MedicoEntity medicoResponsavel, AdministradorEntity adminLogado) {
+                                    MedicoEntity medicoResponsavel, AdministradorPrincipal adminLogado) {
         if (StringUtils.hasText(dto.getNome())) entity.setNome(dto.getNome());
         if (StringUtils.hasText(dto.getResultado())) entity.setResultado(dto.getResultado());
         if (dto.getObservacoes() != null) {
@@ -0,0 +1,57 @@
+package com.main.mapper;
+
+import com.main.api.model.HistoricoMedicoDTO;
+import com.main.domain.entity.ConsultaRegistroEntity;
+import com.main.domain.entity.EncaminhamentoRegistroEntity;
+import com.main.domain.entity.ExameRegistroEntity;
+import com.main.domain.entity.MedicoEntity;
+import com.main.domain.entity.ProcedimentoRegistroEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+
+@Component
+public class HistoricoMedicoMapper {
+
+    public HistoricoMedicoDTO fromConsulta(ConsultaRegistroEntity entity) {
+        return criar(entity.getId(), "CONSULTA", entity.getDataConsulta(),
+                descricao("Consulta", entity.getMotivoConsulta()), entity.getResponsavelMedico(),
+                entity.getCreatedAt(), entity.getUpdatedAt());
+    }
+
+    public HistoricoMedicoDTO fromExame(ExameRegistroEntity entity) {
+        return criar(entity.getId(), "EXAME", entity.getDataExame(),
+                descricao("Exame", entity.getNome()), entity.getMedicoResponsavelExame(),
+                entity.getCreatedAt(), entity.getUpdatedAt());
+    }
+
+    public HistoricoMedicoDTO fromProcedimento(ProcedimentoRegistroEntity entity) {
+        return criar(entity.getId(), "PROCEDIMENTO", entity.getDataProcedimento(),
+                descricao("Procedimento", entity.getDescricaoProcedimento()), entity.getMedicoExecutor(),
+                entity.getCreatedAt(), entity.getUpdatedAt());
+    }
+
+    public HistoricoMedicoDTO fromEncaminhamento(EncaminhamentoRegistroEntity entity) {
+        return criar(entity.getId(), "ENCAMINHAMENTO", entity.getDataEncaminhamento(),
+                descricao("Encaminhamento", entity.getEspecialidadeDestino()), entity.getMedicoSolicitante(),
+                entity.getCreatedAt(), entity.getUpdatedAt());
+    }
+
+    private String descricao(String tipo, String detalhe) {
+        return StringUtils.hasText(detalhe) ? tipo + ": " + detalhe.trim() : tipo;
+    }
+
+    private HistoricoMedicoDTO criar(Long id, String tipo, LocalDateTime data, String descricao, MedicoEntity medico,
+                                     LocalDateTime createdAt, LocalDateTime updatedAt) {
+        HistoricoMedicoDTO dto = new HistoricoMedicoDTO();
+        dto.setId(id);
+        dto.setTipo(tipo);
+        dto.setData(data);
+        dto.setDescricao(descricao);
+        dto.setResponsavel(medico != null ? medico.getNomeCompleto() : null);
+        dto.setCreatedAt(createdAt);
+        dto.setUpdatedAt(updatedAt);
+        return dto;
+    }
+}
@@ -33,7 +33,17 @@ public class MedicoMapper {
         if (medicoEntity == null) {
             return null;
         }
-        return modelMapper.map(medicoEntity, MedicoDTO.class);
+        MedicoDTO dto = new MedicoDTO();
+        dto.setId(medicoEntity.getId());
+        dto.setNomeCompleto(medicoEntity.getNomeCompleto());
+        dto.setCrm(medicoEntity.getCrm());
+        dto.setEspecialidade(medicoEntity.getEspecialidade());
+        dto.setResumoEspecialidade(medicoEntity.getResumoEspecialidade());
+        dto.setRqe(medicoEntity.getRqe());
+        dto.setDeletedAt(medicoEntity.getDeletedAt());
+        dto.setCreatedAt(medicoEntity.getCreatedAt());
+        dto.setUpdatedAt(medicoEntity.getUpdatedAt());
+        return dto;
     }
 
     public List<MedicoDTO> toDTOList(List<MedicoEntity> medicos) {
@@ -8,13 +8,13 @@ import com.main.domain.entity.MedicamentoContinuoEntity;
 import com.main.domain.entity.PacienteEntity;
 import com.main.api.model.AlergiaDTO;
 import com.main.api.model.ComorbidadeDTO;
+import com.main.api.model.EnderecoDTO;
 import com.main.api.model.EnderecoUpdateDTO;
 import com.main.api.model.MedicamentoContinuoDTO;
 import com.main.api.model.PacienteCreateDTO;
 import com.main.api.model.PacienteDTO;
 import com.main.api.model.PacienteUpdateDTO;
 import org.modelmapper.ModelMapper;
-import org.modelmapper.PropertyMap;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
@@ -31,48 +31,63 @@ public class PacienteMapper {
     @Autowired
     public PacienteMapper(ModelMapper modelMapper) {
         this.modelMapper = modelMapper;
-
-        this.modelMapper.addMappings(new PropertyMap<PacienteEntity, PacienteDTO>() {
-            @Override
-            protected void configure() {
-                map().setTelefone(source.getContato().getTelefone());
-                map().setEmail(source.getContato().getEmail());
-            }
-        });
-
-        this.modelMapper.createTypeMap(AlergiaEntity.class, AlergiaDTO.class);
-        this.modelMapper.createTypeMap(ComorbidadeEntity.class, ComorbidadeDTO.class);
-        this.modelMapper.createTypeMap(MedicamentoContinuoEntity.class, MedicamentoContinuoDTO.class);
     }
 
     public PacienteDTO toDTO(PacienteEntity pacienteEntity) {
         if (pacienteEntity == null) {
             return null;
         }
-        PacienteDTO pacienteDTO = modelMapper.map(pacienteEntity, PacienteDTO.class);
+        PacienteDTO pacienteDTO = new PacienteDTO();
+        pacienteDTO.setId(pacienteEntity.getId());
+        pacienteDTO.setNome(pacienteEntity.getNome());
+        pacienteDTO.setDataNascimento(pacienteEntity.getDataNascimento());
+        pacienteDTO.setCpf(pacienteEntity.getCpf());
+        pacienteDTO.setRg(pacienteEntity.getRg());
+        pacienteDTO.setNomeMae(pacienteEntity.getNomeMae());
+        pacienteDTO.setNomePai(pacienteEntity.getNomePai());
+        pacienteDTO.setCartaoSus(pacienteEntity.getCartaoSus());
+        pacienteDTO.setNacionalidade(pacienteEntity.getNacionalidade());
+        pacienteDTO.setOcupacao(pacienteEntity.getOcupacao());
+        pacienteDTO.setCreatedAt(pacienteEntity.getCreatedAt());
+        pacienteDTO.setUpdatedAt(pacienteEntity.getUpdatedAt());
 
         if (pacienteEntity.getGenero() != null) {
             pacienteDTO.setGenero(pacienteEntity.getGenero().name());
         }
         if (pacienteEntity.getRacaCor() != null) {
             pacienteDTO.setRacaCor(pacienteEntity.getRacaCor().name());
-        } else {
-            pacienteDTO.setRacaCor(null);
         }
         if (pacienteEntity.getTipoSanguineo() != null) {
             pacienteDTO.setTipoSanguineo(pacienteEntity.getTipoSanguineo().name());
-        } else {
-            pacienteDTO.setTipoSanguineo(null);
         }
 
-        if (pacienteEntity.getContato() == null) {
-            pacienteDTO.setTelefone(null);
-            pacienteDTO.setEmail(null);
+        ContatoEntity contato = pacienteEntity.getContato();
+        if (contato != null) {
+            pacienteDTO.setTelefone(contato.getTelefone());
+            pacienteDTO.setEmail(contato.getEmail());
+        }
+
+        EnderecoEntity endereco = pacienteEntity.getEndereco();
+        if (endereco != null) {
+            EnderecoDTO enderecoDTO = new EnderecoDTO();
+            enderecoDTO.setLogradouro(endereco.getLogradouro());
+            enderecoDTO.setNumero(endereco.getNumero());
+            enderecoDTO.setComplemento(endereco.getComplemento());
+            enderecoDTO.setBairro(endereco.getBairro());
+            enderecoDTO.setCidade(endereco.getCidade());
+            enderecoDTO.setEstado(endereco.getEstado());
+            enderecoDTO.setCep(endereco.getCep());
+            pacienteDTO.setEndereco(enderecoDTO);
         }
 
         if (pacienteEntity.getAlergias() != null) {
             pacienteDTO.setAlergias(pacienteEntity.getAlergias().stream()
-                    .map(alergiaEntity -> modelMapper.map(alergiaEntity, AlergiaDTO.class))
+                    .map(alergiaEntity -> {
+                        AlergiaDTO alergiaDTO = new AlergiaDTO();
+                        alergiaDTO.setId(alergiaEntity.getId());
+                        alergiaDTO.setDescricao(alergiaEntity.getDescricao());
+                        return alergiaDTO;
+                    })
                     .collect(Collectors.toList()));
         } else {
             pacienteDTO.setAlergias(Collections.emptyList());
@@ -80,7 +95,12 @@ public class PacienteMapper {
 
         if (pacienteEntity.getComorbidades() != null) {
             pacienteDTO.setComorbidades(pacienteEntity.getComorbidades().stream()
-                    .map(comorbidadeEntity -> modelMapper.map(comorbidadeEntity, ComorbidadeDTO.class))
+                    .map(comorbidadeEntity -> {
+                        ComorbidadeDTO comorbidadeDTO = new ComorbidadeDTO();
+                        comorbidadeDTO.setId(comorbidadeEntity.getId());
+                        comorbidadeDTO.setDescricao(comorbidadeEntity.getDescricao());
+                        return comorbidadeDTO;
+                    })
                     .collect(Collectors.toList()));
         } else {
             pacienteDTO.setComorbidades(Collections.emptyList());
@@ -88,7 +108,12 @@ public class PacienteMapper {
 
         if (pacienteEntity.getMedicamentosContinuos() != null) {
             pacienteDTO.setMedicamentosContinuos(pacienteEntity.getMedicamentosContinuos().stream()
-                    .map(medicamentoEntity -> modelMapper.map(medicamentoEntity, MedicamentoContinuoDTO.class))
+                    .map(medicamentoEntity -> {
+                        MedicamentoContinuoDTO medicamentoDTO = new MedicamentoContinuoDTO();
+                        medicamentoDTO.setId(medicamentoEntity.getId());
+                        medicamentoDTO.setDescricao(medicamentoEntity.getDescricao());
+                        return medicamentoDTO;
+                    })
                     .collect(Collectors.toList()));
         } else {
             pacienteDTO.setMedicamentosContinuos(Collections.emptyList());
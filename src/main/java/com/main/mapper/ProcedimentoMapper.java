@@ -1,21 +1,17 @@
 package com.main.mapper;
 
 import com.main.domain.entity.MedicoEntity;
+import com.main.domain.projection.MedicoSnapshot;
 import com.main.domain.entity.ProcedimentoRegistroEntity;
 import com.main.api.model.CriarProcedimentoRequestDTO;
 import com.main.api.model.AtualizarProcedimentoRequestDTO;
 import com.main.api.model.ProcedimentoRegistroDTO;
-import org.modelmapper.ModelMapper;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 @Component
 public class ProcedimentoMapper {
 
-    @Autowired
-    private ModelMapper modelMapper;
-
     public ProcedimentoRegistroEntity toEntity(CriarProcedimentoRequestDTO createDTO) {
         if (createDTO == null) {
             return null;
@@ -28,15 +24,27 @@ public class ProcedimentoMapper {
     }
 
     public ProcedimentoRegistroDTO toDTO(ProcedimentoRegistroEntity entity) {
+        return toDTO(entity, null);
+    }
+
+    public ProcedimentoRegistroDTO toDTO(ProcedimentoRegistroEntity entity, MedicoSnapshot medicoExecutor) {
         if (entity == null) {
             return null;
         }
-        ProcedimentoRegistroDTO dto = modelMapper.map(entity, ProcedimentoRegistroDTO.class);
+        ProcedimentoRegistroDTO dto = new ProcedimentoRegistroDTO();
+        dto.setId(entity.getId());
+        dto.setDescricaoProcedimento(entity.getDescricaoProcedimento());
+        dto.setRelatorioProcedimento(entity.getRelatorioProcedimento());
 
         if (entity.getProntuario() != null) {
             dto.setProntuarioId(entity.getProntuario().getId());
         }
-        if (entity.getMedicoExecutor() != null) {
+        if (medicoExecutor != null) {
+            dto.setMedicoExecutorId(medicoExecutor.getId());
+            dto.setMedicoExecutorNome(medicoExecutor.getNomeCompleto());
+            dto.setMedicoExecutorEspecialidade(medicoExecutor.getEspecialidade());
+            dto.setMedicoExecutorCRM(medicoExecutor.getCrm());
+        } else if (entity.getMedicoExecutor() != null) {
             dto.setMedicoExecutorId(entity.getMedicoExecutor().getId());
             dto.setMedicoExecutorNome(entity.getMedicoExecutor().getNomeCompleto());
             dto.setMedicoExecutorEspecialidade(entity.getMedicoExecutor().getEspecialidade());
@@ -44,6 +52,7 @@ public class ProcedimentoMapper {
         }
         dto.setCreatedAt(entity.getCreatedAt());
         dto.setUpdatedAt(entity.getUpdatedAt());
+        dto.setVersao(entity.getVersao());
         dto.setDataProcedimento(entity.getDataProcedimento());
         return dto;
     }
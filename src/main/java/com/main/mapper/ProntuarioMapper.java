@@ -1,11 +1,19 @@
 package com.main.mapper;
 
+import com.main.domain.entity.ConsultaRegistroEntity;
+import com.main.domain.entity.EncaminhamentoRegistroEntity;
+import com.main.domain.entity.ExameRegistroEntity;
+import com.main.domain.entity.ProcedimentoRegistroEntity;
 import com.main.domain.entity.ProntuarioEntity;
+import com.main.api.model.PacienteDTO;
 import com.main.api.model.ProntuarioDTO;
+import com.main.domain.projection.ProntuarioSummary;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.stream.Collectors;
 
 @Component
@@ -43,6 +51,7 @@ public class ProntuarioMapper {
         dto.setNumeroProntuario(entity.getNumeroProntuario());
         dto.setCreatedAt(entity.getCreatedAt());
         dto.setUpdatedAt(entity.getUpdatedAt());
+        dto.setVersao(entity.getVersao());
 
         if (entity.getPaciente() != null) {
             dto.setPaciente(pacienteMapper.toDTO(entity.getPaciente()));
@@ -53,31 +62,104 @@ public class ProntuarioMapper {
         if (entity.getAdministradorCriador() != null) {
             dto.setAdministradorCriador(administradorMapper.toAdminBasicDTO(entity.getAdministradorCriador()));
         }
+        dto.setResumo(toResumoDTO(entity.getTotalConsultas(), entity.getTotalExames(), entity.getTotalProcedimentos(),
+                entity.getTotalEncaminhamentos(), entity.getUltimaConsultaEm(), entity.getUltimoExameEm(),
+                entity.getUltimoMedicoId(), entity.getUltimoMedicoNome()));
         return dto;
     }
 
+    public ProntuarioDTO toBasicDTO(ProntuarioSummary summary) {
+        if (summary == null) return null;
+
+        ProntuarioDTO dto = new ProntuarioDTO();
+        dto.setId(summary.getId());
+        dto.setNumeroProntuario(summary.getNumeroProntuario());
+        dto.setCreatedAt(summary.getCreatedAt());
+        dto.setUpdatedAt(summary.getUpdatedAt());
+        dto.setVersao(summary.getVersao());
+
+        PacienteDTO paciente = new PacienteDTO();
+        paciente.setId(summary.getPacienteId());
+        paciente.setNome(summary.getPacienteNome());
+        paciente.setCpf(summary.getPacienteCpf());
+        paciente.setDataNascimento(summary.getPacienteDataNascimento());
+        paciente.setGenero(summary.getPacienteGenero() != null ? summary.getPacienteGenero().name() : null);
+        paciente.setCartaoSus(summary.getPacienteCartaoSus());
+        paciente.setTelefone(summary.getPacienteTelefone());
+        paciente.setEmail(summary.getPacienteEmail());
+        dto.setPaciente(paciente);
+
+        if (summary.getMedicoId() != null) {
+            ProntuarioDTO.MedicoBasicDTO medico = new ProntuarioDTO.MedicoBasicDTO();
+            medico.setId(summary.getMedicoId());
+            medico.setNomeCompleto(summary.getMedicoNomeCompleto());
+            medico.setCrm(summary.getMedicoCrm());
+            medico.setEspecialidade(summary.getMedicoEspecialidade());
+            dto.setMedicoResponsavel(medico);
+        }
+        if (summary.getAdministradorId() != null) {
+            ProntuarioDTO.AdministradorBasicDTO admin = new ProntuarioDTO.AdministradorBasicDTO();
+            admin.setId(summary.getAdministradorId());
+            admin.setNome(summary.getAdministradorNome());
+            admin.setEmail(summary.getAdministradorEmail());
+            dto.setAdministradorCriador(admin);
+        }
+        dto.setResumo(toResumoDTO(summary.getTotalConsultas(), summary.getTotalExames(), summary.getTotalProcedimentos(),
+                summary.getTotalEncaminhamentos(), summary.getUltimaConsultaEm(), summary.getUltimoExameEm(),
+                summary.getUltimoMedicoId(), summary.getUltimoMedicoNome()));
+        return dto;
+    }
+
+    private ProntuarioDTO.ResumoAtividadeDTO toResumoDTO(Integer totalConsultas, Integer totalExames,
+                                                         Integer totalProcedimentos, Integer totalEncaminhamentos,
+                                                         LocalDateTime ultimaConsultaEm, LocalDateTime ultimoExameEm,
+                                                         Long ultimoMedicoId, String ultimoMedicoNome) {
+        if (totalConsultas == null) return null;
+
+        ProntuarioDTO.ResumoAtividadeDTO resumo = new ProntuarioDTO.ResumoAtividadeDTO();
+        resumo.setTotalConsultas(totalConsultas);
+        resumo.setTotalExames(totalExames != null ? totalExames : 0);
+        resumo.setTotalProcedimentos(totalProcedimentos != null ? totalProcedimentos : 0);
+        resumo.setTotalEncaminhamentos(totalEncaminhamentos != null ? totalEncaminhamentos : 0);
+        resumo.setUltimaConsultaEm(ultimaConsultaEm);
+        resumo.setUltimoExameEm(ultimoExameEm);
+        resumo.setUltimoMedicoId(ultimoMedicoId);
+        resumo.setUltimoMedicoNome(ultimoMedicoNome);
+        return resumo;
+    }
+
     public ProntuarioDTO toDetailedDTO(ProntuarioEntity entity) {
         if (entity == null) return null;
+        return toDetailedDTO(entity, entity.getConsultas(), entity.getExamesRegistrados(),
+                entity.getProcedimentosRegistrados(), entity.getEncaminhamentosRegistrados());
+    }
+
+    public ProntuarioDTO toDetailedDTO(ProntuarioEntity entity,
+                                       Collection<ConsultaRegistroEntity> consultas,
+                                       Collection<ExameRegistroEntity> exames,
+                                       Collection<ProcedimentoRegistroEntity> procedimentos,
+                                       Collection<EncaminhamentoRegistroEntity> encaminhamentos) {
+        if (entity == null) return null;
 
         ProntuarioDTO dto = toBasicDTO(entity);
 
-        if (entity.getConsultas() != null) {
-            dto.setConsultas(entity.getConsultas().stream()
+        if (consultas != null) {
+            dto.setConsultas(consultas.stream()
                     .map(consultaMapper::toDTO)
                     .collect(Collectors.toList()));
         }
-        if (entity.getExamesRegistrados() != null) {
-            dto.setExamesRegistrados(entity.getExamesRegistrados().stream()
+        if (exames != null) {
+            dto.setExamesRegistrados(exames.stream()
                     .map(exameMapper::toDTO)
                     .collect(Collectors.toList()));
         }
-        if (entity.getProcedimentosRegistrados() != null) {
-            dto.setProcedimentosRegistrados(entity.getProcedimentosRegistrados().stream()
+        if (procedimentos != null) {
+            dto.setProcedimentosRegistrados(procedimentos.stream()
                     .map(procedimentoMapper::toDTO)
                     .collect(Collectors.toList()));
         }
-        if (entity.getEncaminhamentosRegistrados() != null) {
-            dto.setEncaminhamentosRegistrados(entity.getEncaminhamentosRegistrados().stream()
+        if (encaminhamentos != null) {
+            dto.setEncaminhamentosRegistrados(encaminhamentos.stream()
                     .map(encaminhamentoMapper::toDTO)
                     .collect(Collectors.toList()));
         }
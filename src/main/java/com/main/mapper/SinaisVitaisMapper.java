@@ -2,25 +2,32 @@ package com.main.mapper;
 
 import com.main.domain.entity.SinaisVitaisEntity;
 import com.main.api.model.SinaisVitaisDTO;
-import org.modelmapper.ModelMapper;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 @Component
 public class SinaisVitaisMapper {
 
-    @Autowired
-    private ModelMapper modelMapper;
-
     public SinaisVitaisEntity toEntity(SinaisVitaisDTO dto) {
         if (dto == null) return null;
-        return modelMapper.map(dto, SinaisVitaisEntity.class);
+        SinaisVitaisEntity entity = new SinaisVitaisEntity();
+        entity.setPressaoArterial(dto.getPressaoArterial());
+        entity.setTemperatura(dto.getTemperatura());
+        entity.setFrequenciaCardiaca(dto.getFrequenciaCardiaca());
+        entity.setSaturacao(dto.getSaturacao());
+        entity.setHgt(dto.getHgt());
+        return entity;
     }
 
     public SinaisVitaisDTO toDTO(SinaisVitaisEntity entity) {
         if (entity == null) return null;
-        return modelMapper.map(entity, SinaisVitaisDTO.class);
+        SinaisVitaisDTO dto = new SinaisVitaisDTO();
+        dto.setPressaoArterial(entity.getPressaoArterial());
+        dto.setTemperatura(entity.getTemperatura());
+        dto.setFrequenciaCardiaca(entity.getFrequenciaCardiaca());
+        dto.setSaturacao(entity.getSaturacao());
+        dto.setHgt(entity.getHgt());
+        return dto;
     }
 
     public void updateEntityFromDTO(SinaisVitaisDTO dto, SinaisVitaisEntity entity) {
@@ -0,0 +1,45 @@
+package com.main.util;
+
+import com.main.domain.entity.AdministradorEntity;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public final class AdministradorPrincipal {
+
+    private final Long id;
+    private final String nome;
+    private final String email;
+    private final List<GrantedAuthority> authorities;
+
+    public AdministradorPrincipal(Long id, String nome, String email, Collection<String> roles) {
+        this.id = id;
+        this.nome = nome;
+        this.email = email;
+        this.authorities = roles.stream()
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    public static AdministradorPrincipal de(AdministradorEntity admin) {
+        return new AdministradorPrincipal(admin.getId(), admin.getNome(), admin.getEmail(), roles(admin));
+    }
+
+    public static List<String> roles(AdministradorEntity admin) {
+        return admin.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toList());
+    }
+
+    public boolean isCompleto() {
+        return id != null && !authorities.isEmpty();
+    }
+
+    public Long getId() { return id; }
+    public String getNome() { return nome; }
+    public String getEmail() { return email; }
+    public List<GrantedAuthority> getAuthorities() { return authorities; }
+}
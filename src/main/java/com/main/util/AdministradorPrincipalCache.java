@@ -0,0 +1,56 @@
+package com.main.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.main.domain.entity.AdministradorEntity;
+import com.main.domain.repository.AdministradorRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+@Component
+public class AdministradorPrincipalCache {
+
+    private final AdministradorRepository administradorRepository;
+    private final Cache<String, AdministradorEntity> principais;
+
+    public AdministradorPrincipalCache(AdministradorRepository administradorRepository,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${app.seguranca.principal-cache.tamanho-maximo:10000}") long tamanhoMaximo,
+                                       @Value("${app.seguranca.principal-cache.ttl-segundos:300}") long ttlSegundos) {
+        this.administradorRepository = administradorRepository;
+        this.principais = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(Duration.ofSeconds(ttlSegundos))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, principais, "administrador.principal");
+    }
+
+    public AdministradorEntity buscar(String email) {
+        return principais.get(email, chave -> administradorRepository.findByEmail(chave).orElse(null));
+    }
+
+    public void invalidar(String email) {
+        if (email != null) {
+            principais.invalidate(email);
+        }
+    }
+
+    public void invalidarAposCommit(String email) {
+        invalidar(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidar(email);
+                }
+            });
+        }
+    }
+}
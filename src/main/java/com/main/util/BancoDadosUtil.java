@@ -0,0 +1,42 @@
+package com.main.util;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.Locale;
+import java.util.Map;
+
+public final class BancoDadosUtil {
+
+    private static final int TAMANHO_LOTE_BACKFILL = 10_000;
+
+    private BancoDadosUtil() {
+    }
+
+    public static boolean isMySql(DataSource dataSource) {
+        try {
+            String produto = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return produto != null && produto.toLowerCase(Locale.ROOT).contains("mysql");
+        } catch (MetaDataAccessException e) {
+            return false;
+        }
+    }
+
+    public static int preencherEmLotes(JdbcTemplate jdbcTemplate, String tabela, String coluna, String update) {
+        Map<String, Object> limites = jdbcTemplate.queryForMap(
+                "SELECT MIN(id) AS minimo, MAX(id) AS maximo FROM " + tabela + " WHERE " + coluna + " IS NULL");
+        if (limites.get("minimo") == null) {
+            return 0;
+        }
+        long minimo = ((Number) limites.get("minimo")).longValue();
+        long maximo = ((Number) limites.get("maximo")).longValue();
+        int atualizados = 0;
+        for (long inicio = minimo; inicio <= maximo; inicio += TAMANHO_LOTE_BACKFILL) {
+            atualizados += jdbcTemplate.update(update, inicio, inicio + TAMANHO_LOTE_BACKFILL - 1);
+        }
+        return atualizados;
+    }
+}
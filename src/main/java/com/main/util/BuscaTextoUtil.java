@@ -0,0 +1,44 @@
+package com.main.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public final class BuscaTextoUtil {
+
+    public static final int TAMANHO_MINIMO_FULLTEXT = 2;
+
+    private static final Pattern MARCAS_DIACRITICAS = Pattern.compile("\\p{M}+");
+    private static final Pattern NAO_ALFANUMERICO = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private BuscaTextoUtil() {
+    }
+
+    public static String textoPaciente(String nomePaciente, String cpfPaciente) {
+        String cpf = cpfPaciente != null ? cpfPaciente : "";
+        return minusculo(nomePaciente) + " " + cpf + " " + cpf.replace(".", "").replace("-", "");
+    }
+
+    public static String termoFullText(String termo) {
+        if (termo == null) {
+            return null;
+        }
+        String limpo = minusculo(termo).replaceAll("[\"+\\-<>()~*@]", " ").trim().replaceAll("\\s+", " ");
+        if (limpo.replace(" ", "").length() < TAMANHO_MINIMO_FULLTEXT) {
+            return null;
+        }
+        return "\"" + limpo + "\"";
+    }
+
+    public static String dobrarAcentos(String valor) {
+        if (valor == null) {
+            return "";
+        }
+        String semAcentos = MARCAS_DIACRITICAS.matcher(Normalizer.normalize(valor, Normalizer.Form.NFD)).replaceAll("");
+        return NAO_ALFANUMERICO.matcher(semAcentos.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    private static String minusculo(String valor) {
+        return valor != null ? valor.toLowerCase(Locale.ROOT) : "";
+    }
+}
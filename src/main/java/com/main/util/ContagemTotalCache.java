@@ -0,0 +1,69 @@
+package com.main.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+@Component
+public class ContagemTotalCache {
+
+    public static final String PACIENTES = "pacientes";
+    public static final String MEDICOS = "medicos";
+    public static final String PRONTUARIOS = "prontuarios";
+
+    private final Map<String, Contagem> contagens = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+
+    public ContagemTotalCache(@Value("${app.paginacao.contagem-ttl-segundos:30}") long ttlSegundos) {
+        this.ttlNanos = ttlSegundos * 1_000_000_000L;
+    }
+
+    public long obter(String chave, LongSupplier contagem) {
+        long agora = System.nanoTime();
+        Contagem atual = contagens.get(chave);
+        if (atual != null && agora - atual.calculadaEm < ttlNanos) {
+            return atual.total;
+        }
+        long total = contagem.getAsLong();
+        contagens.put(chave, new Contagem(total, agora));
+        return total;
+    }
+
+    public <T> Page<T> paginar(String chave, Slice<T> slice, LongSupplier contagem) {
+        return PageableExecutionUtils.getPage(slice.getContent(), slice.getPageable(), () -> obter(chave, contagem));
+    }
+
+    public void invalidar(String chave) {
+        contagens.remove(chave);
+    }
+
+    public void invalidarAposCommit(String chave) {
+        invalidar(chave);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidar(chave);
+                }
+            });
+        }
+    }
+
+    private static final class Contagem {
+        private final long total;
+        private final long calculadaEm;
+
+        private Contagem(long total, long calculadaEm) {
+            this.total = total;
+            this.calculadaEm = calculadaEm;
+        }
+    }
+}
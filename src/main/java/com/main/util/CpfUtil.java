@@ -0,0 +1,39 @@
+package com.main.util;
+
+public final class CpfUtil {
+
+    public static final int TAMANHO_CPF = 11;
+
+    private CpfUtil() {
+    }
+
+    public static String normalizar(String cpf) {
+        if (cpf == null) {
+            return null;
+        }
+        StringBuilder digitos = new StringBuilder(TAMANHO_CPF);
+        for (int i = 0; i < cpf.length(); i++) {
+            char c = cpf.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digitos.append(c);
+            }
+        }
+        return digitos.length() > 0 ? digitos.toString() : null;
+    }
+
+    public static String inicioFaixa(String prefixo) {
+        return completar(prefixo, '0');
+    }
+
+    public static String fimFaixa(String prefixo) {
+        return completar(prefixo, '9');
+    }
+
+    private static String completar(String prefixo, char preenchimento) {
+        StringBuilder valor = new StringBuilder(TAMANHO_CPF).append(prefixo);
+        while (valor.length() < TAMANHO_CPF) {
+            valor.append(preenchimento);
+        }
+        return valor.toString();
+    }
+}
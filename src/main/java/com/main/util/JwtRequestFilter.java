@@ -11,7 +11,6 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
-import com.main.domain.repository.AdministradorRepository;
 import com.main.domain.entity.AdministradorEntity;
 import java.io.IOException;
 
@@ -22,7 +21,7 @@ public class JwtRequestFilter extends OncePerRequestFilter {
     private JwtUtil jwtUtil;
 
     @Autowired
-    private AdministradorRepository administradorRepository;
+    private AdministradorPrincipalCache administradorPrincipalCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
@@ -30,34 +29,33 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 
         final String authorizationHeader = request.getHeader("Authorization");
 
-        String username = null;
+        AdministradorPrincipal principal = null;
         String jwt = null;
 
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
             jwt = authorizationHeader.substring(7);
             try {
-                username = jwtUtil.validateTokenAndGetUsername(jwt);
+                principal = jwtUtil.validarToken(jwt);
             } catch (IllegalArgumentException e) {
             } catch (ExpiredJwtException e) {
             } catch (Exception e) {
             }
         }
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            AdministradorEntity admin = this.administradorRepository.findByEmail(username).orElse(null);
+        if (principal != null && !principal.isCompleto()) {
+            AdministradorEntity admin = this.administradorPrincipalCache.buscar(principal.getEmail());
+            principal = admin != null ? AdministradorPrincipal.de(admin) : null;
+        }
 
-            if (admin != null) {
-                UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = new UsernamePasswordAuthenticationToken(
-                        admin, null, admin.getAuthorities());
+        if (principal != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = new UsernamePasswordAuthenticationToken(
+                    principal, null, principal.getAuthorities());
 
-                usernamePasswordAuthenticationToken
-                        .setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            usernamePasswordAuthenticationToken
+                    .setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
-                } else {
-                }
-        } else if (username != null && SecurityContextHolder.getContext().getAuthentication() != null) {
-            }
+            SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
+        }
 
         chain.doFilter(request, response);
     }
@@ -1,47 +1,137 @@
 package com.main.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.main.domain.entity.AdministradorEntity;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 
 @Component
 public class JwtUtil {
 
+    private static final long VALIDADE_TOKEN_MILLIS = 3600000;
+    private static final String CLAIM_ID = "id";
+    private static final String CLAIM_NOME = "nome";
+    private static final String CLAIM_ROLES = "roles";
+
     @Value("${jwt.secret}")
     private String secretBase64;
 
+    @Value("${jwt.cache.tamanho-maximo:10000}")
+    private long tamanhoMaximoCache;
+
     private Key secretKey;
 
+    private JwtParser jwtParser;
+
+    private Cache<String, TokenValidado> tokensValidados;
+
     @PostConstruct
     public void init() {
         byte[] keyBytes = java.util.Base64.getDecoder().decode(secretBase64);
         secretKey = Keys.hmacShaKeyFor(keyBytes);
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
+        if (tamanhoMaximoCache > 0) {
+            tokensValidados = Caffeine.newBuilder()
+                    .maximumSize(tamanhoMaximoCache)
+                    .expireAfterWrite(Duration.ofMillis(VALIDADE_TOKEN_MILLIS))
+                    .build();
+        }
     }
 
-    public String generateToken(String username) {
-        long expMillis = System.currentTimeMillis() + 3600000;
+    public String generateToken(AdministradorEntity admin) {
+        long expMillis = System.currentTimeMillis() + VALIDADE_TOKEN_MILLIS;
         return Jwts.builder()
-                .setSubject(username)
+                .setSubject(admin.getEmail())
+                .claim(CLAIM_ID, admin.getId())
+                .claim(CLAIM_NOME, admin.getNome())
+                .claim(CLAIM_ROLES, AdministradorPrincipal.roles(admin))
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(expMillis))
                 .signWith(secretKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public String validateTokenAndGetUsername(String token) {
+    public AdministradorPrincipal validarToken(String token) {
+        if (tokensValidados == null) {
+            return validarAssinatura(token);
+        }
+        String chave = digest(token);
+        TokenValidado validado = tokensValidados.getIfPresent(chave);
+        if (validado != null) {
+            if (validado.expiraEm > System.currentTimeMillis()) {
+                return validado.principal;
+            }
+            tokensValidados.invalidate(chave);
+            return null;
+        }
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody()
-                    .getSubject();
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            AdministradorPrincipal principal = principal(claims);
+            if (claims.getExpiration() != null) {
+                tokensValidados.put(chave, new TokenValidado(principal, claims.getExpiration().getTime()));
+            }
+            return principal;
         } catch (JwtException e) {
             return null;
         }
     }
-}
\ No newline at end of file
+
+    private AdministradorPrincipal validarAssinatura(String token) {
+        try {
+            return principal(jwtParser.parseClaimsJws(token).getBody());
+        } catch (JwtException e) {
+            return null;
+        }
+    }
+
+    private static AdministradorPrincipal principal(Claims claims) {
+        Object id = claims.get(CLAIM_ID);
+        Object roles = claims.get(CLAIM_ROLES);
+        List<String> authorities = new ArrayList<>();
+        if (roles instanceof Collection) {
+            for (Object role : (Collection<?>) roles) {
+                authorities.add(String.valueOf(role));
+            }
+        }
+        return new AdministradorPrincipal(
+                id instanceof Number ? ((Number) id).longValue() : null,
+                claims.get(CLAIM_NOME, String.class),
+                claims.getSubject(),
+                authorities);
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    private static final class TokenValidado {
+        private final AdministradorPrincipal principal;
+        private final long expiraEm;
+
+        private TokenValidado(AdministradorPrincipal principal, long expiraEm) {
+            this.principal = principal;
+            this.expiraEm = expiraEm;
+        }
+    }
+}
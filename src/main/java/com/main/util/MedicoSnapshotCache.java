@@ -0,0 +1,113 @@
+package com.main.util;
+
+import com.main.domain.entity.MedicoEntity;
+import com.main.domain.projection.MedicoSnapshot;
+import com.main.domain.repository.MedicoRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+@Component
+public class MedicoSnapshotCache {
+
+    private final MedicoRepository medicoRepository;
+    private final long ttlNanos;
+    private volatile Estado estado;
+
+    public MedicoSnapshotCache(MedicoRepository medicoRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.medicos.snapshot.ttl-segundos:300}") long ttlSegundos) {
+        this.medicoRepository = medicoRepository;
+        this.ttlNanos = ttlSegundos * 1_000_000_000L;
+        Gauge.builder("medico.snapshot.tamanho", this, cache -> {
+            Estado atual = cache.estado;
+            return atual != null ? atual.medicos.size() : 0;
+        }).register(meterRegistry);
+    }
+
+    public Optional<MedicoSnapshot> buscar(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        MedicoSnapshot medico = estadoAtual().medicos.get(id);
+        if (medico != null) {
+            return Optional.of(medico);
+        }
+        Optional<MedicoSnapshot> carregado = medicoRepository.findSnapshotById(id);
+        carregado.ifPresent(this::colocar);
+        return carregado;
+    }
+
+    public void atualizarAposCommit(MedicoEntity medico) {
+        MedicoSnapshot snapshot = MedicoSnapshot.de(medico);
+        aposCommit(medicos -> medicos.put(snapshot.getId(), snapshot));
+    }
+
+    public void removerAposCommit(Long id) {
+        aposCommit(medicos -> medicos.remove(id));
+    }
+
+    private void colocar(MedicoSnapshot medico) {
+        alterar(medicos -> medicos.put(medico.getId(), medico));
+    }
+
+    private void aposCommit(Consumer<Map<Long, MedicoSnapshot>> alteracao) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    alterar(alteracao);
+                }
+            });
+        } else {
+            alterar(alteracao);
+        }
+    }
+
+    private synchronized void alterar(Consumer<Map<Long, MedicoSnapshot>> alteracao) {
+        Estado atual = estado;
+        if (atual == null) {
+            return;
+        }
+        Map<Long, MedicoSnapshot> copia = new HashMap<>(atual.medicos);
+        alteracao.accept(copia);
+        estado = new Estado(Map.copyOf(copia), atual.carregadoEm);
+    }
+
+    private Estado estadoAtual() {
+        Estado atual = estado;
+        if (atual != null && System.nanoTime() - atual.carregadoEm < ttlNanos) {
+            return atual;
+        }
+        synchronized (this) {
+            atual = estado;
+            if (atual == null || System.nanoTime() - atual.carregadoEm >= ttlNanos) {
+                Map<Long, MedicoSnapshot> medicos = new HashMap<>();
+                for (MedicoSnapshot medico : medicoRepository.findAllSnapshots()) {
+                    medicos.put(medico.getId(), medico);
+                }
+                atual = new Estado(Map.copyOf(medicos), System.nanoTime());
+                estado = atual;
+            }
+            return atual;
+        }
+    }
+
+    private static final class Estado {
+        private final Map<Long, MedicoSnapshot> medicos;
+        private final long carregadoEm;
+
+        private Estado(Map<Long, MedicoSnapshot> medicos, long carregadoEm) {
+            this.medicos = medicos;
+            this.carregadoEm = carregadoEm;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.main.util;
+
+import com.main.api.exception.VersaoDesatualizadaException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+@Component
+public class RetentativaOtimista {
+
+    private static final Logger logger = LoggerFactory.getLogger(RetentativaOtimista.class);
+
+    private final TransactionTemplate transactionTemplate;
+    private final int tentativasMaximas;
+    private final long esperaBaseMs;
+    private final Counter retentativas;
+    private final Counter esgotadas;
+    private final Counter precondicoesFalhas;
+    private final Counter conflitosEdicao;
+
+    public RetentativaOtimista(PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.concorrencia.tentativas-maximas:3}") int tentativasMaximas,
+                               @Value("${app.concorrencia.espera-base-ms:20}") long esperaBaseMs) {
+        if (tentativasMaximas < 1) {
+            throw new IllegalArgumentException("app.concorrencia.tentativas-maximas deve ser maior que zero.");
+        }
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.tentativasMaximas = tentativasMaximas;
+        this.esperaBaseMs = Math.max(0, esperaBaseMs);
+        this.retentativas = Counter.builder("concorrencia.otimista.retentativas")
+                .description("Transações repetidas após conflito de versão")
+                .register(meterRegistry);
+        this.esgotadas = Counter.builder("concorrencia.otimista.esgotadas")
+                .description("Conflitos de versão que continuaram após todas as tentativas")
+                .register(meterRegistry);
+        this.precondicoesFalhas = Counter.builder("concorrencia.otimista.precondicao.falhas")
+                .description("Edições rejeitadas porque o If-Match não corresponde à versão atual")
+                .register(meterRegistry);
+        this.conflitosEdicao = Counter.builder("concorrencia.otimista.edicao.conflitos")
+                .description("Edições sem If-Match rejeitadas porque outra transação gravou antes")
+                .register(meterRegistry);
+    }
+
+    public <T> T executarEdicao(Long versaoEsperada, String recurso, Supplier<T> operacao) {
+        try {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                return operacao.get();
+            }
+            return transactionTemplate.execute(status -> operacao.get());
+        } catch (OptimisticLockingFailureException e) {
+            if (versaoEsperada != null) {
+                throw desatualizada(recurso);
+            }
+            conflitosEdicao.increment();
+            logger.info("CONCORRENCIA: Edição de {} perdeu a disputa de versão; nada foi gravado.", recurso);
+            throw e;
+        }
+    }
+
+    public <T> T executar(String recurso, Supplier<T> operacao) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return operacao.get();
+        }
+        for (int tentativa = 1; ; tentativa++) {
+            try {
+                return transactionTemplate.execute(status -> operacao.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (tentativa >= tentativasMaximas) {
+                    esgotadas.increment();
+                    logger.warn("CONCORRENCIA: {} continuou em conflito após {} tentativas.", recurso, tentativa);
+                    throw e;
+                }
+                retentativas.increment();
+                logger.info("CONCORRENCIA: Conflito de versão em {}; tentativa {} de {}.", recurso, tentativa + 1, tentativasMaximas);
+                aguardar(tentativa);
+            }
+        }
+    }
+
+    public void verificar(Long versaoEsperada, Long versaoAtual, String recurso) {
+        if (versaoEsperada != null && !versaoEsperada.equals(versaoAtual)) {
+            throw desatualizada(recurso);
+        }
+    }
+
+    private VersaoDesatualizadaException desatualizada(String recurso) {
+        precondicoesFalhas.increment();
+        return new VersaoDesatualizadaException(recurso + " foi alterado por outra operação. Recarregue e tente novamente.");
+    }
+
+    private void aguardar(int tentativa) {
+        if (esperaBaseMs == 0) {
+            return;
+        }
+        long espera = esperaBaseMs * tentativa + ThreadLocalRandom.current().nextLong(esperaBaseMs + 1);
+        try {
+            Thread.sleep(espera);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Retentativa interrompida.", e);
+        }
+    }
+}
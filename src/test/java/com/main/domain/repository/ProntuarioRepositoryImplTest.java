@@ -0,0 +1,82 @@
+package com.main.domain.repository;
+
+import com.main.config.BuscaTextoSchema;
+import com.main.domain.entity.AdministradorEntity;
+import com.main.domain.entity.MedicoEntity;
+import com.main.domain.entity.PacienteEntity;
+import com.main.domain.entity.ProntuarioEntity;
+import com.main.domain.projection.ProntuarioSummary;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(BuscaTextoSchema.class)
+class ProntuarioRepositoryImplTest {
+
+    private static final int TOTAL_PRONTUARIOS = 150;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ProntuarioRepository prontuarioRepository;
+
+    private Statistics estatisticas;
+
+    @BeforeEach
+    void preparar() {
+        AdministradorEntity admin = entityManager.persist(
+                new AdministradorEntity("Admin Resumos", "resumos@teste.com", "senha", "palavra"));
+        MedicoEntity medico = entityManager.persist(
+                new MedicoEntity("Médico Resumos", "CRM-RES-1", "Clínica Geral", null, null, null));
+        for (int i = 0; i < TOTAL_PRONTUARIOS; i++) {
+            PacienteEntity paciente = new PacienteEntity();
+            paciente.setNome("Paciente " + i);
+            paciente.setCpf(String.format("%03d.456.789-00", i));
+            paciente.setDataNascimento(LocalDate.of(1980, 1, 1));
+            paciente.setGenero(PacienteEntity.Genero.NAO_INFORMADO);
+            ProntuarioEntity prontuario = new ProntuarioEntity();
+            prontuario.setPaciente(entityManager.persist(paciente));
+            prontuario.setMedicoResponsavel(medico);
+            prontuario.setAdministradorCriador(admin);
+            entityManager.persist(prontuario);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        estatisticas = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        estatisticas.clear();
+    }
+
+    @Test
+    void paginaDeCemResumosUsaNoMaximoDuasInstrucoes() {
+        Page<ProntuarioSummary> pagina = prontuarioRepository.buscarResumos(null, null,
+                PageRequest.of(0, 100, Sort.by(Sort.Direction.DESC, "updatedAt")));
+
+        assertThat(pagina.getContent()).hasSize(100);
+        assertThat(pagina.getTotalElements()).isEqualTo(TOTAL_PRONTUARIOS);
+        assertThat(pagina.getContent()).allSatisfy(resumo -> {
+            assertThat(resumo.getPacienteNome()).isNotNull();
+            assertThat(resumo.getMedicoNomeCompleto()).isEqualTo("Médico Resumos");
+            assertThat(resumo.getAdministradorNome()).isEqualTo("Admin Resumos");
+        });
+        assertThat(estatisticas.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+    }
+}
@@ -0,0 +1,47 @@
+package com.main.domain.service;
+
+import com.main.domain.repository.PacienteRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PacienteNomeIndiceTest {
+
+    private final PacienteNomeIndice indice = new PacienteNomeIndice();
+
+    @BeforeEach
+    void preparar() {
+        PacienteRepository pacienteRepository = mock(PacienteRepository.class);
+        when(pacienteRepository.findIdENomeAposId(anyLong(), any(Pageable.class))).thenReturn(List.of(
+                new Object[]{1L, "Joana Silva"},
+                new Object[]{2L, "João Pereira"},
+                new Object[]{3L, "Ana Souza"}));
+        ReflectionTestUtils.setField(indice, "pacienteRepository", pacienteRepository);
+        indice.reconstruir();
+    }
+
+    @Test
+    void termoCurtoFicaComOBanco() {
+        assertThat(indice.buscar("an")).isNull();
+        assertThat(indice.buscar("jo ana")).isNull();
+    }
+
+    @Test
+    void encontraSubstringNoMeioDaPalavra() {
+        assertThat(indice.buscar("ana")).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    void ignoraAcentos() {
+        assertThat(indice.buscar("joao")).containsExactly(2L);
+    }
+}
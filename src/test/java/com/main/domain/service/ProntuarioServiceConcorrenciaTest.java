@@ -0,0 +1,93 @@
+package com.main.domain.service;
+
+import com.main.api.model.ConsultaDTO;
+import com.main.api.model.CriarConsultaRequestDTO;
+import com.main.domain.entity.AdministradorEntity;
+import com.main.domain.entity.MedicoEntity;
+import com.main.domain.entity.PacienteEntity;
+import com.main.domain.repository.AdministradorRepository;
+import com.main.domain.repository.MedicoRepository;
+import com.main.domain.repository.PacienteRepository;
+import com.main.domain.repository.ProntuarioRepository;
+import com.main.util.AdministradorPrincipal;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ProntuarioServiceConcorrenciaTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private ProntuarioService prontuarioService;
+
+    @Autowired
+    private ProntuarioRepository prontuarioRepository;
+
+    @Autowired
+    private PacienteRepository pacienteRepository;
+
+    @Autowired
+    private MedicoRepository medicoRepository;
+
+    @Autowired
+    private AdministradorRepository administradorRepository;
+
+    @Test
+    void requisicoesSimultaneasDoMesmoPacienteCompartilhamUmUnicoProntuario() throws Exception {
+        AdministradorEntity admin = administradorRepository.save(
+                new AdministradorEntity("Admin Concorrência", "concorrencia@teste.com", "senha", "palavra"));
+        MedicoEntity medico = medicoRepository.save(
+                new MedicoEntity("Médico Concorrência", "CRM-CONC-1", "Clínica Geral", null, null, null));
+        PacienteEntity paciente = new PacienteEntity();
+        paciente.setNome("Paciente Concorrência");
+        paciente.setCpf("111.222.333-44");
+        paciente.setDataNascimento(LocalDate.of(1980, 1, 1));
+        paciente.setGenero(PacienteEntity.Genero.NAO_INFORMADO);
+        Long pacienteId = pacienteRepository.save(paciente).getId();
+        AdministradorPrincipal adminLogado = new AdministradorPrincipal(admin.getId(), admin.getNome(), admin.getEmail(), List.of("ROLE_ADMIN"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Future<ConsultaDTO>> consultas = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                CriarConsultaRequestDTO dto = new CriarConsultaRequestDTO();
+                dto.setMotivoConsulta("Retorno " + i);
+                dto.setQueixasPrincipais("Sem queixas");
+                dto.setMedicoExecutorId(medico.getId());
+                consultas.add(executor.submit(() -> {
+                    largada.await();
+                    return prontuarioService.adicionarConsultaERetornarDTO(pacienteId, dto, adminLogado, medico.getId());
+                }));
+            }
+            largada.countDown();
+
+            Set<Long> prontuarioIds = new HashSet<>();
+            for (Future<ConsultaDTO> consulta : consultas) {
+                prontuarioIds.add(consulta.get(30, TimeUnit.SECONDS).getProntuarioId());
+            }
+
+            assertThat(prontuarioIds).hasSize(1);
+            assertThat(prontuarioRepository.findIdByPacienteId(pacienteId)).contains(prontuarioIds.iterator().next());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
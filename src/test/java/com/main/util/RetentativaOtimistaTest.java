@@ -0,0 +1,52 @@
+package com.main.util;
+
+import com.main.api.exception.VersaoDesatualizadaException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class RetentativaOtimistaTest {
+
+    private final RetentativaOtimista retentativaOtimista =
+            new RetentativaOtimista(mock(PlatformTransactionManager.class), new SimpleMeterRegistry(), 3, 0);
+
+    @Test
+    void edicaoSemIfMatchRodaUmaVezEPropagaOConflito() {
+        AtomicInteger execucoes = new AtomicInteger();
+
+        assertThatThrownBy(() -> retentativaOtimista.executarEdicao(null, "Consulta 1", () -> {
+            execucoes.incrementAndGet();
+            throw new OptimisticLockingFailureException("conflito");
+        })).isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(execucoes).hasValue(1);
+    }
+
+    @Test
+    void edicaoComIfMatchViraPrecondicaoFalha() {
+        assertThatThrownBy(() -> retentativaOtimista.executarEdicao(4L, "Consulta 1", () -> {
+            throw new OptimisticLockingFailureException("conflito");
+        })).isInstanceOf(VersaoDesatualizadaException.class);
+    }
+
+    @Test
+    void atualizacaoInternaRepeteAteOLimite() {
+        AtomicInteger execucoes = new AtomicInteger();
+
+        String resultado = retentativaOtimista.executar("Prontuário 1", () -> {
+            if (execucoes.incrementAndGet() < 3) {
+                throw new OptimisticLockingFailureException("conflito");
+            }
+            return "ok";
+        });
+
+        assertThat(resultado).isEqualTo("ok");
+        assertThat(execucoes).hasValue(3);
+    }
+}